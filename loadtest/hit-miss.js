@@ -0,0 +1,70 @@
+// 캐시 적중/미스 비율별 /api/weather, /api/mask 처리량과 p50/p99를 측정하는 k6 시나리오
+//   ./gradlew stubServer -Pstub.latencyMs=80 -Pstub.errorRate=0.01
+//   ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+//   k6 run -e HIT_RATIO=0.9 -e RATE=300 loadtest/hit-miss.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '2m';
+const HIT_RATIO = Number(__ENV.HIT_RATIO || 0.9);
+
+// 적중 요청은 setup에서 미리 조회한 좌표만 사용
+const HOT_POINTS = [
+    [37.5665, 126.9780], [37.5172, 127.0473], [37.5636, 126.9976], [37.5838, 127.0020],
+    [37.4979, 127.0276], [37.5509, 126.9410], [37.5386, 127.0823], [37.6543, 127.0568],
+];
+
+export const options = {
+    scenarios: ['weather', 'mask'].reduce((scenarios, name) => {
+        scenarios[name] = {
+            executor: 'constant-arrival-rate',
+            exec: name,
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        };
+        return scenarios;
+    }, {}),
+    summaryTrendStats: ['avg', 'p(50)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{name:weather,cache:hit}': ['p(99)<100'],
+        'http_req_duration{name:weather,cache:miss}': ['p(99)<1000'],
+        'http_req_duration{name:mask,cache:hit}': ['p(99)<100'],
+        'http_req_duration{name:mask,cache:miss}': ['p(99)<1000'],
+    },
+};
+
+export function setup() {
+    HOT_POINTS.forEach(([lat, lon]) => {
+        http.get(`${BASE_URL}/api/weather?lat=${lat}&lon=${lon}`);
+        http.get(`${BASE_URL}/api/mask?lat=${lat}&lon=${lon}`);
+    });
+}
+
+// 미스 요청은 전국 범위의 임의 좌표 (새 격자/주소 셀이 대부분)
+function pick() {
+    if (Math.random() < HIT_RATIO) {
+        return { cache: 'hit', point: HOT_POINTS[Math.floor(Math.random() * HOT_POINTS.length)] };
+    }
+    return { cache: 'miss', point: [34.0 + Math.random() * 4.5, 126.0 + Math.random() * 3.5] };
+}
+
+function request(name) {
+    const { cache, point } = pick();
+    const res = http.get(`${BASE_URL}/api/${name}?lat=${point[0].toFixed(4)}&lon=${point[1].toFixed(4)}`,
+        { tags: { name, cache } });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function weather() {
+    request('weather');
+}
+
+export function mask() {
+    request('mask');
+}
@@ -0,0 +1,53 @@
+// 기본 모드와 vthreads 프로필을 같은 부하로 비교하는 k6 스크립트
+//   k6 run -e BASE_URL=http://localhost:8080 -e RATE=200 loadtest/weather-mask.js
+// 두 모드 모두 같은 Redis 상태(캐시 비움 또는 예열)에서 실행하고 p95 지연과 실패율을 비교합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 200);
+
+export const options = {
+    scenarios: {
+        weather: {
+            executor: 'constant-arrival-rate',
+            exec: 'weather',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+        mask: {
+            executor: 'constant-arrival-rate',
+            exec: 'mask',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{scenario:weather}': ['p(95)<500'],
+        'http_req_duration{scenario:mask}': ['p(95)<500'],
+    },
+};
+
+// 수도권 범위의 임의 좌표 (격자/주소 캐시 미스가 섞이도록)
+function randomPoint() {
+    const lat = 37.4 + Math.random() * 0.3;
+    const lon = 126.8 + Math.random() * 0.4;
+    return `lat=${lat.toFixed(4)}&lon=${lon.toFixed(4)}`;
+}
+
+export function weather() {
+    const res = http.get(`${BASE_URL}/api/weather?${randomPoint()}`, { tags: { name: 'weather' } });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function mask() {
+    const res = http.get(`${BASE_URL}/api/mask?${randomPoint()}`, { tags: { name: 'mask' } });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
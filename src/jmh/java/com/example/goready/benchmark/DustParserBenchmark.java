@@ -0,0 +1,35 @@
+package com.example.goready.benchmark;
+
+import com.example.goready.service.mask.DustParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 에어코리아 시도별 측정정보(서울 25개 구) 응답에서 PM10 값을 찾는 시간.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DustParserBenchmark {
+
+    private final DustParser dustParser = new DustParser();
+    private String response;
+
+    @Setup
+    public void setUp() {
+        response = new String(Fixtures.read(Fixtures.CTPRVN_MESURE_SIDO_LIST), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int extractPm10Value() {
+        return dustParser.extractPm10Value(response, "강동구");
+    }
+}
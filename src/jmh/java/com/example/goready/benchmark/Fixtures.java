@@ -0,0 +1,28 @@
+package com.example.goready.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * src/jmh/resources/fixtures 아래의 기록된 API 응답을 읽습니다.
+ */
+final class Fixtures {
+
+    static final String VILAGE_FCST = "fixtures/vilageFcst.json";
+    static final String CTPRVN_MESURE_SIDO_LIST = "fixtures/ctprvnMesureSidoLIst.json";
+
+    private Fixtures() {
+    }
+
+    static byte[] read(String path) {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture not found: " + path);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
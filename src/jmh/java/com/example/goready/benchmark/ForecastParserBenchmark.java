@@ -0,0 +1,70 @@
+package com.example.goready.benchmark;
+
+import com.example.goready.dto.ForecastData;
+import com.example.goready.dto.ForecastSeries;
+import com.example.goready.service.weather.ForecastParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단기예보(getVilageFcst) 270행 응답 파싱 비교.
+ * streaming: 한 시각만 추출, streamingSeries: 하루치 시간별 값 추출, treePerCategory: 항목마다 JsonNode 트리를 새로 만들던 기존 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ForecastParserBenchmark {
+
+    private static final String DATE = "20241015";
+    private static final String HOUR = "1800";
+
+    private final ForecastParser forecastParser = new ForecastParser();
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        response = Fixtures.read(Fixtures.VILAGE_FCST);
+    }
+
+    @Benchmark
+    public ForecastData streaming() throws IOException {
+        return forecastParser.parse(new ByteArrayInputStream(response), DATE, HOUR);
+    }
+
+    @Benchmark
+    public ForecastSeries streamingSeries() throws IOException {
+        return forecastParser.parseSeries(new ByteArrayInputStream(response), DATE);
+    }
+
+    @Benchmark
+    public int treePerCategory() throws IOException {
+        String json = new String(response, StandardCharsets.UTF_8);
+        return extract(json, "TMX", false) + extract(json, "TMN", false)
+                + extract(json, "POP", true) + extract(json, "TMP", true);
+    }
+
+    private int extract(String json, String category, boolean matchHour) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode itemsNode = objectMapper.readTree(json).path("response").path("body").path("items").path("item");
+        for (JsonNode item : itemsNode) {
+            if (category.equals(item.path("category").asText())
+                    && DATE.equals(item.path("fcstDate").asText())
+                    && (!matchHour || HOUR.equals(item.path("fcstTime").asText()))) {
+                return item.path("fcstValue").asInt();
+            }
+        }
+        return 0;
+    }
+}
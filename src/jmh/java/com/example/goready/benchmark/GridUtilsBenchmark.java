@@ -0,0 +1,61 @@
+package com.example.goready.benchmark;
+
+import com.example.goready.dto.LonXLatY;
+import com.example.goready.utils.GridUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위경도 -> 기상청 격자 변환. 남한 범위의 임의 좌표 1024개를 변환합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GridUtilsBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final GridUtils gridUtils = new GridUtils();
+    private final double[] lons = new double[SIZE];
+    private final double[] lats = new double[SIZE];
+    private final int[] out = new int[SIZE];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            lons[i] = 126.0 + random.nextDouble() * 3.5;
+            lats[i] = 33.5 + random.nextDouble() * 4.5;
+        }
+    }
+
+    @Benchmark
+    public void convertGridGps(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            LonXLatY xy = gridUtils.convertGRID_GPS(lons[i], lats[i]);
+            blackhole.consume(xy);
+        }
+    }
+
+    @Benchmark
+    public void toGridPacked(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(gridUtils.toGrid(lons[i], lats[i]));
+        }
+    }
+
+    @Benchmark
+    public int[] toGridBatch() {
+        gridUtils.toGrid(lons, lats, out);
+        return out;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.goready.benchmark;
+
+import com.example.goready.converter.WeatherDataCodec;
+import com.example.goready.dto.WeatherData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis에 캐싱되는 WeatherData 직렬화/역직렬화.
+ * newMapper*: 호출마다 ObjectMapper를 만들던 기존 JSON 방식, sharedMapper*: 공유 ObjectMapper,
+ * binary*: 현재 사용하는 WeatherDataCodec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WeatherDataCodecBenchmark {
+
+    private final ObjectMapper sharedMapper = new ObjectMapper();
+    private WeatherData weatherData;
+    private String json;
+    private byte[] binary;
+    private byte[] temp;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        weatherData = new WeatherData(21, 5, 60, 18, 16, false);
+        json = sharedMapper.writeValueAsString(weatherData);
+        binary = WeatherDataCodec.encode(weatherData);
+        temp = WeatherDataCodec.encodeTemp(weatherData.getCurrentTemp());
+    }
+
+    @Benchmark
+    public String newMapperSerialize() throws JsonProcessingException {
+        return new ObjectMapper().writeValueAsString(weatherData);
+    }
+
+    @Benchmark
+    public WeatherData newMapperDeserialize() throws JsonProcessingException {
+        return new ObjectMapper().readValue(json, WeatherData.class);
+    }
+
+    @Benchmark
+    public String sharedMapperSerialize() throws JsonProcessingException {
+        return sharedMapper.writeValueAsString(weatherData);
+    }
+
+    @Benchmark
+    public WeatherData sharedMapperDeserialize() throws JsonProcessingException {
+        return sharedMapper.readValue(json, WeatherData.class);
+    }
+
+    @Benchmark
+    public int newMapperReadCurrentTemp() throws JsonProcessingException {
+        return new ObjectMapper().readTree(json).get("currentTemp").asInt();
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return WeatherDataCodec.encode(weatherData);
+    }
+
+    @Benchmark
+    public Optional<WeatherData> binaryDecode() {
+        return WeatherDataCodec.decode(binary);
+    }
+
+    @Benchmark
+    public OptionalInt binaryDecodeTemp() {
+        return WeatherDataCodec.decodeTemp(temp);
+    }
+}
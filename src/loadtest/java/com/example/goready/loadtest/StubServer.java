@@ -0,0 +1,181 @@
+package com.example.goready.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 부하 테스트용 upstream 스텁 서버입니다. 기상청, 에어코리아, 카카오 API를 녹화된 응답(fixtures)으로 대신하고,
+ * 설정한 지연과 오류율을 적용합니다. 임베디드 Redis도 함께 띄웁니다.
+ * <pre>
+ * ./gradlew stubServer -Pstub.latencyMs=80 -Pstub.jitterMs=40 -Pstub.errorRate=0.01
+ * ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+ * </pre>
+ */
+public class StubServer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final int latencyMs = Integer.getInteger("stub.latencyMs", 50);
+    private final int jitterMs = Integer.getInteger("stub.jitterMs", 20);
+    private final double errorRate = Double.parseDouble(System.getProperty("stub.errorRate", "0"));
+
+    private final JsonNode forecast;
+    private final String dust;
+    private final List<String> cityNames = new ArrayList<>();
+
+    StubServer() throws IOException {
+        this.forecast = OBJECT_MAPPER.readTree(fixture("vilageFcst.json"));
+        JsonNode dustNode = OBJECT_MAPPER.readTree(fixture("ctprvnMesureSidoLIst.json"));
+        this.dust = OBJECT_MAPPER.writeValueAsString(dustNode);
+        dustNode.path("response").path("body").path("items")
+                .forEach(item -> cityNames.add(item.path("cityName").asText()));
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = Integer.getInteger("stub.port", 18080);
+        int redisPort = Integer.getInteger("stub.redisPort", 6379); // 0이면 Redis를 띄우지 않음
+
+        RedisServer redisServer = null;
+        if (redisPort > 0) {
+            redisServer = new RedisServer(redisPort);
+            redisServer.start();
+        }
+
+        StubServer stubServer = new StubServer();
+        DisposableServer server = HttpServer.create()
+                .port(port)
+                .route(routes -> routes
+                        .get("/api/typ02/openApi/VilageFcstInfoService_2.0/getVilageFcst",
+                                (request, response) -> stubServer.respond(request, response, stubServer::forecast))
+                        .get("/B552584/ArpltnStatsSvc/getCtprvnMesureSidoLIst",
+                                (request, response) -> stubServer.respond(request, response, params -> stubServer.dust))
+                        .get("/v2/local/geo/coord2address.json",
+                                (request, response) -> stubServer.respond(request, response, stubServer::address)))
+                .bindNow();
+
+        System.out.printf("Stub server on :%d (latency %dms ±%dms, error rate %.3f), redis on :%d%n",
+                port, stubServer.latencyMs, stubServer.jitterMs, stubServer.errorRate, redisPort);
+
+        RedisServer redis = redisServer;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.disposeNow();
+            if (redis != null) {
+                try {
+                    redis.stop();
+                } catch (IOException ignored) {
+                }
+            }
+        }));
+        server.onDispose().block();
+    }
+
+    /**
+     * 지연을 적용한 뒤 설정한 비율만큼 500을, 나머지는 응답 본문을 반환합니다.
+     */
+    private Mono<Void> respond(HttpServerRequest request, HttpServerResponse response,
+                               Function<Map<String, List<String>>, String> body) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Duration delay = Duration.ofMillis(Math.max(0, latencyMs + (jitterMs > 0 ? random.nextInt(-jitterMs, jitterMs + 1) : 0)));
+        boolean fail = random.nextDouble() < errorRate;
+        Map<String, List<String>> params = new QueryStringDecoder(request.uri()).parameters();
+
+        return Mono.delay(delay).then(Mono.defer(() -> {
+            if (fail) {
+                return response.status(HttpResponseStatus.INTERNAL_SERVER_ERROR)
+                        .sendString(Mono.just("stub error"))
+                        .then();
+            }
+            return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json;charset=UTF-8")
+                    .sendString(Mono.fromSupplier(() -> body.apply(params)))
+                    .then();
+        }));
+    }
+
+    /**
+     * 녹화된 단기예보를 요청한 발표일자로 옮기고, pageNo/numOfRows 범위만 잘라 반환합니다.
+     */
+    private String forecast(Map<String, List<String>> params) {
+        ArrayNode items = (ArrayNode) forecast.path("response").path("body").path("items").path("item");
+        String baseDate = param(params, "base_date", items.get(0).path("baseDate").asText());
+        String baseTime = param(params, "base_time", items.get(0).path("baseTime").asText());
+        int pageNo = Integer.parseInt(param(params, "pageNo", "1"));
+        int numOfRows = Integer.parseInt(param(params, "numOfRows", "10"));
+        long shift = ChronoUnit.DAYS.between(
+                LocalDate.parse(items.get(0).path("baseDate").asText(), DATE), LocalDate.parse(baseDate, DATE));
+
+        ArrayNode page = OBJECT_MAPPER.createArrayNode();
+        int from = (pageNo - 1) * numOfRows;
+        for (int i = from; i < Math.min(items.size(), from + numOfRows); i++) {
+            ObjectNode item = items.get(i).deepCopy();
+            item.put("baseDate", baseDate);
+            item.put("baseTime", baseTime);
+            item.put("fcstDate", LocalDate.parse(item.path("fcstDate").asText(), DATE).plusDays(shift).format(DATE));
+            page.add(item);
+        }
+
+        ObjectNode root = forecast.deepCopy();
+        ObjectNode body = (ObjectNode) root.path("response").path("body");
+        ((ObjectNode) body.path("items")).set("item", page);
+        body.put("pageNo", pageNo);
+        body.put("numOfRows", numOfRows);
+        body.put("totalCount", items.size());
+        return root.toString();
+    }
+
+    /**
+     * 좌표를 0.01도 단위로 나눠 에어코리아 응답에 있는 서울 시/군/구 중 하나를 돌려줍니다.
+     */
+    private String address(Map<String, List<String>> params) {
+        long x = Math.round(Double.parseDouble(param(params, "x", "127")) * 100);
+        long y = Math.round(Double.parseDouble(param(params, "y", "37.5")) * 100);
+        String cityName = cityNames.get((int) Math.floorMod(x * 31 + y, (long) cityNames.size()));
+
+        ObjectNode address = OBJECT_MAPPER.createObjectNode()
+                .put("address_name", "서울 " + cityName)
+                .put("region_1depth_name", "서울")
+                .put("region_2depth_name", cityName)
+                .put("region_3depth_name", "");
+        ObjectNode root = OBJECT_MAPPER.createObjectNode();
+        root.putObject("meta").put("total_count", 1);
+        root.putArray("documents").addObject().set("address", address);
+        return root.toString();
+    }
+
+    private static String param(Map<String, List<String>> params, String name, String defaultValue) {
+        List<String> values = params.get(name);
+        return values == null || values.isEmpty() ? defaultValue : values.get(0);
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = StubServer.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture not found: " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.goready.controller;
+
+import com.example.goready.dto.ReadyResponse;
+import com.example.goready.global.response.ApiResponse;
+import com.example.goready.global.response.status.SuccessStatus;
+import com.example.goready.service.ready.ReadyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/ready")
+public class ReadyController {
+
+    private final ReadyService readyService;
+
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<ReadyResponse.ReadyDto>>> getReady(
+            @RequestParam(name = "lat") double lat,
+            @RequestParam(name = "lon") double lon
+    ) {
+        return readyService.getReady(lat, lon)
+                .map(readyDto -> ApiResponse.success(SuccessStatus.SUCCESS_GET_READY, readyDto));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamReady(
+            @RequestParam(name = "lat") double lat,
+            @RequestParam(name = "lon") double lon
+    ) {
+        return readyService.streamReady(lat, lon);
+    }
+}
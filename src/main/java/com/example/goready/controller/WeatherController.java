@@ -1,5 +1,6 @@
 package com.example.goready.controller;
 
+import com.example.goready.dto.WeatherRequest;
 import com.example.goready.dto.WeatherResponse;
 import com.example.goready.global.response.ApiResponse;
 import com.example.goready.global.response.status.SuccessStatus;
@@ -7,11 +8,15 @@ import com.example.goready.service.weather.WeatherService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/weather")
 @RequiredArgsConstructor
@@ -28,5 +33,12 @@ public class WeatherController {
                 .map(weatherDto -> ApiResponse.success(SuccessStatus.SUCCESS_GET_WEATHER, weatherDto));
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<ApiResponse<List<WeatherResponse.WeatherDto>>>> getWeatherBatch(
+            @RequestBody WeatherRequest.BatchDto request
+    ) {
+        return weatherService.getWeatherBatch(request.getPoints())
+                .map(weatherDtos -> ApiResponse.success(SuccessStatus.SUCCESS_GET_WEATHER_BATCH, weatherDtos));
+    }
 
 }
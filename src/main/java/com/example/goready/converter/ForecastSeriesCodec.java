@@ -0,0 +1,73 @@
+package com.example.goready.converter;
+
+import com.example.goready.dto.ForecastSeries;
+
+import java.util.Optional;
+
+/**
+ * Redis에 저장하는 ForecastSeries의 고정 길이 바이너리 형식입니다. (big-endian)
+ * [버전 1][maxTemp 2][minTemp 2][found 1][tempHours 3][rainHours 3][TMP 2 x 24][POP 1 x 24] = 84바이트
+ * 버전이 다르거나 길이가 맞지 않는 값은 캐시 미스로 취급합니다.
+ */
+public class ForecastSeriesCodec {
+
+    public static final byte VERSION = 1;
+    public static final int LENGTH = 12 + ForecastSeries.HOURS * 3;
+
+    private static final int TEMPS_OFFSET = 12;
+    private static final int RAIN_PERS_OFFSET = TEMPS_OFFSET + ForecastSeries.HOURS * 2;
+
+    private ForecastSeriesCodec() {
+    }
+
+    public static byte[] encode(ForecastSeries series) {
+        byte[] bytes = new byte[LENGTH];
+        bytes[0] = VERSION;
+        writeShort(bytes, 1, series.maxTemp);
+        writeShort(bytes, 3, series.minTemp);
+        bytes[5] = (byte) series.found;
+        writeHours(bytes, 6, series.tempHours);
+        writeHours(bytes, 9, series.rainHours);
+        for (int hour = 0; hour < ForecastSeries.HOURS; hour++) {
+            writeShort(bytes, TEMPS_OFFSET + hour * 2, series.temps[hour]);
+            bytes[RAIN_PERS_OFFSET + hour] = (byte) series.rainPers[hour]; // 0 ~ 100
+        }
+        return bytes;
+    }
+
+    public static Optional<ForecastSeries> decode(byte[] bytes) {
+        if (bytes == null || bytes.length != LENGTH || bytes[0] != VERSION) {
+            return Optional.empty();
+        }
+        ForecastSeries series = new ForecastSeries();
+        series.maxTemp = readShort(bytes, 1);
+        series.minTemp = readShort(bytes, 3);
+        series.found = bytes[5];
+        series.tempHours = readHours(bytes, 6);
+        series.rainHours = readHours(bytes, 9);
+        for (int hour = 0; hour < ForecastSeries.HOURS; hour++) {
+            series.temps[hour] = readShort(bytes, TEMPS_OFFSET + hour * 2);
+            series.rainPers[hour] = bytes[RAIN_PERS_OFFSET + hour];
+        }
+        return Optional.of(series);
+    }
+
+    private static void writeShort(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >> 8);
+        bytes[offset + 1] = (byte) value;
+    }
+
+    private static int readShort(byte[] bytes, int offset) {
+        return (short) (((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF));
+    }
+
+    private static void writeHours(byte[] bytes, int offset, int hours) {
+        bytes[offset] = (byte) (hours >> 16);
+        bytes[offset + 1] = (byte) (hours >> 8);
+        bytes[offset + 2] = (byte) hours;
+    }
+
+    private static int readHours(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 16) | ((bytes[offset + 1] & 0xFF) << 8) | (bytes[offset + 2] & 0xFF);
+    }
+}
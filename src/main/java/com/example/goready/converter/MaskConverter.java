@@ -5,11 +5,12 @@ import com.example.goready.dto.MaskResponse;
 
 public class MaskConverter {
 
-        public static MaskResponse.MaskDto toMaskDto(boolean isAlert, boolean isMask, Address address) {
+        public static MaskResponse.MaskDto toMaskDto(boolean isAlert, boolean isMask, Address address, boolean stale) {
             return MaskResponse.MaskDto.builder()
                     .alert(isAlert)
                     .isMask(isMask)
                     .address(address.dongName())
+                    .stale(stale)
                     .build();
         }
 }
@@ -0,0 +1,15 @@
+package com.example.goready.converter;
+
+import com.example.goready.dto.MaskResponse;
+import com.example.goready.dto.ReadyResponse;
+import com.example.goready.dto.WeatherResponse;
+
+public class ReadyConverter {
+
+    public static ReadyResponse.ReadyDto toReadyDto(WeatherResponse.WeatherDto weatherDto, MaskResponse.MaskDto maskDto) {
+        return ReadyResponse.ReadyDto.builder()
+                .weather(weatherDto)
+                .mask(maskDto)
+                .build();
+    }
+}
@@ -22,6 +22,7 @@ public class WeatherConverter {
                 .diffTemp(diffTemp)
                 .currentTemp(weatherData.getCurrentTemp())
                 .isUmbrella(isUmbrella)
+                .stale(weatherData.isStale())
                 .build();
     }
 }
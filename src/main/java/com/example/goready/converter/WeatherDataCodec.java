@@ -0,0 +1,84 @@
+package com.example.goready.converter;
+
+import com.example.goready.dto.WeatherData;
+import com.example.goready.global.exception.GlobalException;
+import com.example.goready.global.response.status.ErrorStatus;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Redis에 저장하는 WeatherData의 고정 길이 바이너리 형식입니다.
+ * 날씨: [버전 1바이트][maxTemp][minTemp][rainPer][currentTemp][yesterdayTemp] (각 2바이트, big-endian) = 11바이트
+ * 기온: [버전 1바이트][temp 2바이트] = 3바이트
+ * 버전이 다르거나 길이가 맞지 않는 값(기존 JSON 등)은 캐시 미스로 취급합니다.
+ */
+public class WeatherDataCodec {
+
+    public static final byte VERSION = 1;
+    public static final int LENGTH = 11;
+    public static final int TEMP_LENGTH = 3;
+
+    private static final int MAX_TEMP_OFFSET = 1;
+    private static final int MIN_TEMP_OFFSET = 3;
+    private static final int RAIN_PER_OFFSET = 5;
+    private static final int CURRENT_TEMP_OFFSET = 7;
+    private static final int YESTERDAY_TEMP_OFFSET = 9;
+
+    private WeatherDataCodec() {
+    }
+
+    public static byte[] encode(WeatherData weatherData) {
+        byte[] bytes = new byte[LENGTH];
+        bytes[0] = VERSION;
+        writeShort(bytes, MAX_TEMP_OFFSET, weatherData.getMaxTemp());
+        writeShort(bytes, MIN_TEMP_OFFSET, weatherData.getMinTemp());
+        writeShort(bytes, RAIN_PER_OFFSET, weatherData.getRainPer());
+        writeShort(bytes, CURRENT_TEMP_OFFSET, weatherData.getCurrentTemp());
+        writeShort(bytes, YESTERDAY_TEMP_OFFSET, weatherData.getYesterdayTemp());
+        return bytes;
+    }
+
+    public static Optional<WeatherData> decode(byte[] bytes) {
+        if (!isSupported(bytes)) {
+            return Optional.empty();
+        }
+        return Optional.of(new WeatherData(
+                readShort(bytes, MAX_TEMP_OFFSET),
+                readShort(bytes, MIN_TEMP_OFFSET),
+                readShort(bytes, RAIN_PER_OFFSET),
+                readShort(bytes, CURRENT_TEMP_OFFSET),
+                readShort(bytes, YESTERDAY_TEMP_OFFSET),
+                false));
+    }
+
+    public static byte[] encodeTemp(int temp) {
+        byte[] bytes = new byte[TEMP_LENGTH];
+        bytes[0] = VERSION;
+        writeShort(bytes, 1, temp);
+        return bytes;
+    }
+
+    public static OptionalInt decodeTemp(byte[] bytes) {
+        if (bytes == null || bytes.length != TEMP_LENGTH || bytes[0] != VERSION) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(readShort(bytes, 1));
+    }
+
+    private static boolean isSupported(byte[] bytes) {
+        return bytes != null && bytes.length == LENGTH && bytes[0] == VERSION;
+    }
+
+    private static void writeShort(byte[] bytes, int offset, int value) {
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw new GlobalException(ErrorStatus.WEATHER_CACHE_ERROR);
+        }
+        bytes[offset] = (byte) (value >> 8);
+        bytes[offset + 1] = (byte) value;
+    }
+
+    private static int readShort(byte[] bytes, int offset) {
+        return (short) (((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF));
+    }
+}
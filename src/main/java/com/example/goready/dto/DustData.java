@@ -0,0 +1,12 @@
+package com.example.goready.dto;
+
+/**
+ * PM10 조회 결과
+ * @param pm10Value PM10 값
+ * @param stale upstream 장애로 지난 값을 대신 반환했는지 여부
+ */
+public record DustData(
+        int pm10Value,
+        boolean stale
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.goready.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ForecastData {
+    public static final int MAX_TEMP = 1;
+    public static final int MIN_TEMP = 1 << 1;
+    public static final int RAIN_PER = 1 << 2;
+    public static final int CURRENT_TEMP = 1 << 3;
+    public static final int ALL = MAX_TEMP | MIN_TEMP | RAIN_PER | CURRENT_TEMP;
+
+    public int maxTemp;
+    public int minTemp;
+    public int rainPer;
+    public int currentTemp;
+    public int found; // 응답에서 찾은 항목의 비트마스크
+
+    public boolean has(int category) {
+        return (found & category) == category;
+    }
+}
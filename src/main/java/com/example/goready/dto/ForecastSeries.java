@@ -0,0 +1,48 @@
+package com.example.goready.dto;
+
+import lombok.Getter;
+
+/**
+ * 한 격자의 하루치 예보. 발표시각 하나의 응답에서 예보 날짜의 시간별 기온(TMP), 강수확률(POP)과
+ * 최고(TMX)/최저(TMN)기온을 담습니다.
+ */
+@Getter
+public class ForecastSeries {
+    public static final int HOURS = 24;
+    private static final int DAILY = ForecastData.MAX_TEMP | ForecastData.MIN_TEMP;
+
+    public int maxTemp;
+    public int minTemp;
+    public int found; // TMX, TMN을 찾았는지 (ForecastData 비트마스크)
+    public final int[] temps = new int[HOURS];
+    public final int[] rainPers = new int[HOURS];
+    public int tempHours; // i번째 비트 = i시 TMP를 찾았는지
+    public int rainHours; // i번째 비트 = i시 POP를 찾았는지
+
+    /**
+     * 해당 시각의 날씨를 만들 수 있는 값이 모두 있는지 확인합니다.
+     * @param hour 예보 시각 (0 ~ 23)
+     * @return 최고/최저기온과 해당 시각의 기온, 강수확률이 모두 있으면 true
+     */
+    public boolean covers(int hour) {
+        int bit = 1 << hour;
+        return (found & DAILY) == DAILY && (tempHours & bit) != 0 && (rainHours & bit) != 0;
+    }
+
+    public ForecastData at(int hour) {
+        ForecastData data = new ForecastData();
+        data.maxTemp = maxTemp;
+        data.minTemp = minTemp;
+        data.found = found & DAILY;
+        int bit = 1 << hour;
+        if ((tempHours & bit) != 0) {
+            data.currentTemp = temps[hour];
+            data.found |= ForecastData.CURRENT_TEMP;
+        }
+        if ((rainHours & bit) != 0) {
+            data.rainPer = rainPers[hour];
+            data.found |= ForecastData.RAIN_PER;
+        }
+        return data;
+    }
+}
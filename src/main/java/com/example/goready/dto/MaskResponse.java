@@ -13,5 +13,6 @@ public class MaskResponse {
         private boolean alert;
         private boolean isMask;
         private String address;
+        private boolean stale; // 지난 시간대 데이터 여부
     }
 }
@@ -0,0 +1,16 @@
+package com.example.goready.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+public class ReadyResponse {
+
+    @Builder
+    @Data
+    @AllArgsConstructor
+    public static class ReadyDto {
+        private WeatherResponse.WeatherDto weather;
+        private MaskResponse.MaskDto mask;
+    }
+}
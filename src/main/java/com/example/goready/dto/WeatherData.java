@@ -14,17 +14,20 @@ public class WeatherData {
     private int rainPer;
     private int currentTemp;
     private int yesterdayTemp;
+    private boolean stale; // upstream 장애로 지난 값을 대신 반환했는지 여부
 
     @JsonCreator
     public WeatherData(@JsonProperty("maxTemp") int maxTemp,
                        @JsonProperty("minTemp") int minTemp,
                        @JsonProperty("rainPer") int rainPer,
                        @JsonProperty("currentTemp") int currentTemp,
-                       @JsonProperty("yesterdayTemp") int yesterdayTemp) {
+                       @JsonProperty("yesterdayTemp") int yesterdayTemp,
+                       @JsonProperty("stale") boolean stale) {
         this.maxTemp = maxTemp;
         this.minTemp = minTemp;
         this.rainPer = rainPer;
         this.currentTemp = currentTemp;
         this.yesterdayTemp = yesterdayTemp;
+        this.stale = stale;
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.goready.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class WeatherRequest {
+
+    @Getter
+    @NoArgsConstructor
+    public static class BatchDto {
+        private List<PointDto> points;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class PointDto {
+        private double lon;
+        private double lat;
+    }
+}
@@ -17,5 +17,6 @@ public class WeatherResponse {
         private int diffTemp;
         private int currentTemp;
         private boolean isUmbrella;
+        private boolean stale; // 지난 시간대 데이터 여부
     }
 }
@@ -0,0 +1,60 @@
+package com.example.goready.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키 패밀리(CachePolicy.FAMILIES)별 Redis 키 개수와 메모리 사용량을 보여줍니다.
+ * GET /actuator/cachememory
+ * SCAN으로 키를 나눠 읽고, 묶음마다 Lua 스크립트 한 번으로 MEMORY USAGE 합계를 구합니다.
+ */
+@Component
+@Endpoint(id = "cachememory")
+@RequiredArgsConstructor
+public class CacheMemoryEndpoint {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final RedisScript<Long> MEMORY_USAGE_SCRIPT = RedisScript.of("""
+            local total = 0
+            for _, key in ipairs(KEYS) do
+                total = total + (redis.call('MEMORY', 'USAGE', key) or 0)
+            end
+            return total
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @ReadOperation
+    public Mono<Map<String, FamilyUsage>> memory() {
+        return Flux.fromIterable(CachePolicy.FAMILIES)
+                .concatMap(family -> usage(family).map(usage -> Map.entry(family, usage)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+    }
+
+    private Mono<FamilyUsage> usage(String family) {
+        ScanOptions scanOptions = ScanOptions.scanOptions().match(family + ":*").count(1000).build();
+        return reactiveStringRedisTemplate.scan(scanOptions)
+                .buffer(BATCH_SIZE)
+                .concatMap(keys -> reactiveStringRedisTemplate.execute(MEMORY_USAGE_SCRIPT, keys)
+                        .next()
+                        .map(bytes -> new FamilyUsage(keys.size(), bytes)))
+                .reduce(new FamilyUsage(0, 0), FamilyUsage::plus);
+    }
+
+    public record FamilyUsage(long keys, long bytes) {
+        FamilyUsage plus(FamilyUsage other) {
+            return new FamilyUsage(keys + other.keys, bytes + other.bytes);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.goready.global.cache;
+
+import com.example.goready.dto.Address;
+import com.example.goready.dto.LonXLatY;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Redis 캐시의 키 형식과 TTL을 한 곳에서 정합니다.
+ * 시간대별 키는 "{패밀리}:{대상}:yyyy-MM-dd_HH" 형식이며, 다시 읽는 기간만큼만 보관합니다.
+ * - weatherInfo: 격자별 날씨 전체. 해당 시간대가 끝나면 만료
+ * - weatherTemp: 격자별 기온. 다음 날 같은 시간대의 "어제 기온"으로 읽으므로 다음 날 같은 시간대가 끝나면 만료
+ * - maskInfo: 시군구별 PM10. 해당 시간대가 끝나면 만료
+ * - weatherSeries: 격자, 발표시각별 하루치 예보. 그 발표시각으로 조회하는 마지막 시간대가 끝나면 만료
+ * - weatherStale, maskStale: "{패밀리}:{대상}" 형식의 마지막 값. upstream 장애 시 대신 반환하며 staleTtl 동안 보관
+ * - lease: "lease:{캐시 키}" 형식의 갱신 임대. 한 노드만 upstream을 호출하도록 RefreshLock이 잠깐 보관
+ */
+@Component
+public class CachePolicy {
+
+    public static final String WEATHER = "weatherInfo";
+    public static final String WEATHER_TEMP = "weatherTemp";
+    public static final String WEATHER_SERIES = "weatherSeries";
+    public static final String MASK = "maskInfo";
+    public static final String WEATHER_STALE = "weatherStale";
+    public static final String MASK_STALE = "maskStale";
+    public static final String LEASE = "lease";
+
+    public static final List<String> FAMILIES = List.of(WEATHER, WEATHER_TEMP, WEATHER_SERIES, MASK, WEATHER_STALE, MASK_STALE);
+
+    // 만료 직전에 저장되는 값도 바로 사라지지 않도록 최소 TTL을 둡니다.
+    private static final Duration MIN_TTL = Duration.ofSeconds(1);
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH");
+
+    @Value("${cache.stale.enabled:true}")
+    private boolean staleEnabled;
+
+    @Value("${cache.stale.ttl:6h}")
+    private Duration staleTtl;
+
+    @Value("${cache.stale.soft-timeout:800ms}")
+    private Duration softTimeout;
+
+    public String weatherKey(LonXLatY xy, LocalDateTime hour) {
+        return key(WEATHER, cell(xy), hour);
+    }
+
+    public Duration weatherTtl(LocalDateTime hour) {
+        return untilEndOfHour(hour);
+    }
+
+    public String weatherTempKey(LonXLatY xy, LocalDateTime hour) {
+        return key(WEATHER_TEMP, cell(xy), hour);
+    }
+
+    public Duration weatherTempTtl(LocalDateTime hour) {
+        return untilEndOfHour(hour.plusDays(1));
+    }
+
+    public String weatherSeriesKey(LonXLatY xy, String baseDate, String baseTime) {
+        return WEATHER_SERIES + ":" + cell(xy) + ":" + baseDate + "_" + baseTime;
+    }
+
+    public Duration weatherSeriesTtl(LocalDateTime lastHour) {
+        return untilEndOfHour(lastHour);
+    }
+
+    public String maskKey(Address address, LocalDateTime hour) {
+        return maskKey(address.sidoName(), address.cityName(), hour);
+    }
+
+    public String maskKey(String sidoName, String cityName, LocalDateTime hour) {
+        return key(MASK, sidoName + cityName, hour);
+    }
+
+    public Duration maskTtl(LocalDateTime hour) {
+        return untilEndOfHour(hour);
+    }
+
+    public String leaseKey(String cacheKey) {
+        return LEASE + ":" + cacheKey;
+    }
+
+    public String weatherStaleKey(LonXLatY xy) {
+        return WEATHER_STALE + ":" + cell(xy);
+    }
+
+    public String maskStaleKey(Address address) {
+        return maskStaleKey(address.sidoName(), address.cityName());
+    }
+
+    public String maskStaleKey(String sidoName, String cityName) {
+        return MASK_STALE + ":" + sidoName + cityName;
+    }
+
+    public Duration staleTtl() {
+        return staleTtl;
+    }
+
+    /**
+     * upstream이 느리거나 실패할 때 마지막 값을 대신 반환할지 정합니다.
+     * 다음 시간대를 미리 채우는 요청(prewarm)은 실제 값이 필요하므로 제외합니다.
+     * @param hour 조회 기준 시각
+     * @return stale 값 반환 여부
+     */
+    public boolean serveStale(LocalDateTime hour) {
+        return staleEnabled && isCurrentHour(hour);
+    }
+
+    // 이 시간 안에 upstream이 응답하지 않으면 stale 값을 먼저 반환
+    public Duration softTimeout() {
+        return softTimeout;
+    }
+
+    /**
+     * 로컬 캐시는 다음 정각에 만료되므로 현재 시간대의 값만 올립니다.
+     * @param hour 값의 기준 시각
+     * @return 현재 시간대인지 여부
+     */
+    public boolean isCurrentHour(LocalDateTime hour) {
+        return hour.truncatedTo(ChronoUnit.HOURS).equals(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS));
+    }
+
+    private String key(String family, String target, LocalDateTime hour) {
+        return family + ":" + target + ":" + hour.format(HOUR_FORMAT);
+    }
+
+    private String cell(LonXLatY xy) {
+        return "X" + xy.x + "Y" + xy.y;
+    }
+
+    private Duration untilEndOfHour(LocalDateTime hour) {
+        Duration ttl = Duration.between(LocalDateTime.now(), hour.truncatedTo(ChronoUnit.HOURS).plusHours(1));
+        return ttl.compareTo(MIN_TTL) < 0 ? MIN_TTL : ttl;
+    }
+}
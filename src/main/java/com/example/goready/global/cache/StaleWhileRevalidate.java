@@ -0,0 +1,50 @@
+package com.example.goready.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 시 upstream 갱신과 마지막 값(stale) 사이에서 응답할 값을 고릅니다. (stale-while-revalidate)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleWhileRevalidate {
+
+    private final CachePolicy cachePolicy;
+
+    /**
+     * upstream이 softTimeout 안에 응답하지 않거나 실패하면 마지막으로 저장된 값을 stale로 반환합니다.
+     * 먼저 stale 값으로 응답한 경우에도 갱신 요청은 백그라운드에서 끝까지 진행되어 캐시를 채웁니다.
+     * stale 값도 없으면 갱신 결과를 기다리거나 원래 오류를 반환합니다.
+     * @param label 로그에 남길 대상 (예: weather X60Y127)
+     * @param refresh 공유되는 갱신 요청
+     * @param readStale 마지막 값을 읽는 요청 (없으면 empty)
+     * @param now 조회 기준 시각
+     * @return 갱신 결과 또는 stale 값
+     */
+    public <T> Mono<T> serve(String label, Mono<T> refresh, Supplier<Mono<T>> readStale, LocalDateTime now) {
+        if (!cachePolicy.serveStale(now)) {
+            return refresh;
+        }
+        return Mono.defer(() -> {
+            // 갱신은 따로 한 번만 구독해 두고, 호출한 쪽에는 그 결과를 보여 줍니다.
+            // softTimeout으로 호출한 쪽의 구독이 끝나도 upstream 호출은 취소되지 않습니다.
+            Mono<T> inFlight = refresh.cache();
+            inFlight.subscribe(
+                    value -> log.debug("Refreshed {}", label),
+                    e -> log.debug("Refresh of {} failed: {}", label, e.getMessage()));
+            Mono<T> staleOnTimeout = Mono.defer(readStale)
+                    .doOnNext(stale -> log.info("Serving stale {} while refresh continues in background", label))
+                    .switchIfEmpty(inFlight);
+            return inFlight
+                    .timeout(cachePolicy.softTimeout(), staleOnTimeout)
+                    .onErrorResume(e -> Mono.defer(readStale).switchIfEmpty(Mono.error(e)));
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.goready.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 API 키별 호출 한도입니다. 초당 한도(token bucket)와 일일 한도를 모든 노드가 Redis에서 함께 사용합니다.
+ * backgroundReserve는 사전 캐싱 등 백그라운드 호출이 사용자 요청을 위해 남겨 둘 비율입니다.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        double backgroundReserve,
+        Limit kma,
+        Limit airKorea,
+        Limit kakao
+) {
+
+    public record Limit(
+            double perSecond,
+            int burst,
+            long dailyQuota
+    ) {
+    }
+}
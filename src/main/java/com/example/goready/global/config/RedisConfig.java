@@ -4,10 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @RequiredArgsConstructor
@@ -22,7 +25,7 @@ public class RedisConfig {
     private int redisPort;
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public LettuceConnectionFactory redisConnectionFactory() {
         return new LettuceConnectionFactory(redisHost, redisPort);
     }
 
@@ -35,4 +38,19 @@ public class RedisConfig {
 
         return redisTemplate;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ReactiveStringRedisTemplate reactiveStringRedisTemplate() {
+        return new ReactiveStringRedisTemplate(redisConnectionFactory());
+    }
+
+    // 값을 그대로 byte[]로 다루는 템플릿 (WeatherDataCodec 등 바이너리 캐시 값)
+    @Bean
+    public ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate() {
+        RedisSerializationContext<String, byte[]> serializationContext = RedisSerializationContext
+                .<String, byte[]>newSerializationContext(RedisSerializer.string())
+                .value(RedisSerializer.byteArray())
+                .build();
+        return new ReactiveRedisTemplate<>(redisConnectionFactory(), serializationContext);
+    }
+}
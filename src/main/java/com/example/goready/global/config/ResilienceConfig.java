@@ -0,0 +1,76 @@
+package com.example.goready.global.config;
+
+import com.example.goready.utils.CircuitBreaker;
+import com.example.goready.utils.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import java.time.Duration;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class ResilienceConfig {
+
+    private final MeterRegistry meterRegistry;
+    private final RateLimitProperties rateLimitProperties;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @Value("${circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${circuit-breaker.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${circuit-breaker.slow-call-threshold:3s}")
+    private Duration slowCallThreshold;
+
+    @Bean
+    public CircuitBreaker kmaCircuitBreaker() {
+        return buildCircuitBreaker("kma");
+    }
+
+    @Bean
+    public CircuitBreaker airKoreaCircuitBreaker() {
+        return buildCircuitBreaker("airkorea");
+    }
+
+    @Bean
+    public RateLimiter kmaRateLimiter() {
+        return buildRateLimiter("kma", rateLimitProperties.kma());
+    }
+
+    @Bean
+    public RateLimiter airKoreaRateLimiter() {
+        return buildRateLimiter("airkorea", rateLimitProperties.airKorea());
+    }
+
+    @Bean
+    public RateLimiter kakaoRateLimiter() {
+        return buildRateLimiter("kakao", rateLimitProperties.kakao());
+    }
+
+    private RateLimiter buildRateLimiter(String name, RateLimitProperties.Limit limit) {
+        return new RateLimiter(name, limit.perSecond(), limit.burst(), limit.dailyQuota(),
+                rateLimitProperties.backgroundReserve(), reactiveStringRedisTemplate, meterRegistry);
+    }
+
+    /**
+     * upstream별 서킷 브레이커를 만들고 상태를 goready.circuit.state 지표로 노출합니다. (0 CLOSED, 1 OPEN, 2 HALF_OPEN)
+     * @param name upstream 이름 (WebConfig의 커넥션 풀 이름과 같음)
+     * @return CircuitBreaker
+     */
+    private CircuitBreaker buildCircuitBreaker(String name) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(name, failureThreshold, openDuration, slowCallThreshold);
+        Gauge.builder("goready.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .tag("upstream", name)
+                .register(meterRegistry);
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.goready.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class SchedulerConfig {
+
+    /**
+     * upstream 응답 파싱처럼 이벤트 루프를 오래 점유하는 작업을 실행할 스케줄러입니다.
+     * 기본값은 현재 스레드(Netty 이벤트 루프)에서 그대로 실행하고,
+     * vthreads 프로필(Java 21, spring.threads.virtual.enabled)에서는 작업마다 가상 스레드를 사용합니다.
+     * @param virtualThreads 가상 스레드 사용 여부
+     * @return Scheduler
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Schedulers.fromExecutor(new VirtualThreadTaskExecutor("goready-vt-"));
+        }
+        return Schedulers.immediate();
+    }
+}
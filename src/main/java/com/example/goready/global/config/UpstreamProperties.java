@@ -0,0 +1,30 @@
+package com.example.goready.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 API(기상청 apihub, 공공데이터포털, 카카오)별 WebClient 연결 설정입니다.
+ */
+@ConfigurationProperties(prefix = "upstream")
+public record UpstreamProperties(
+        Client kma,
+        Client airKorea,
+        Client kakao
+) {
+
+    public record Client(
+            String baseUrl,
+            int maxConnections,
+            int pendingAcquireMaxCount,
+            Duration pendingAcquireTimeout,
+            Duration connectTimeout,
+            Duration responseTimeout,
+            Duration maxIdleTime,
+            Duration maxLifeTime,
+            boolean compress,
+            boolean http2
+    ) {
+    }
+}
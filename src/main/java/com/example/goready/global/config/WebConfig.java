@@ -1,32 +1,91 @@
 package com.example.goready.global.config;
 
+import io.netty.channel.ChannelOption;
+import com.example.goready.utils.MetricsUtil;
+import com.example.goready.utils.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.cors.CorsConfiguration;
-import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-import org.springframework.web.filter.CorsFilter;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 
 @Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(UpstreamProperties.class)
 public class WebConfig {
 
+    private final UpstreamProperties upstreamProperties;
+    private final MetricsUtil metricsUtil;
+    private final RateLimiter kmaRateLimiter;
+    private final RateLimiter airKoreaRateLimiter;
+    private final RateLimiter kakaoRateLimiter;
+
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder().build();
+    public WebClient kmaWebClient() {
+        return buildWebClient("kma", upstreamProperties.kma(), kmaRateLimiter);
+    }
+
+    @Bean
+    public WebClient airKoreaWebClient() {
+        return buildWebClient("airkorea", upstreamProperties.airKorea(), airKoreaRateLimiter);
     }
 
     @Bean
     public WebClient kakaoWebClient() {
+        return buildWebClient("kakao", upstreamProperties.kakao(), kakaoRateLimiter);
+    }
+
+    /**
+     * upstream마다 별도의 커넥션 풀과 타임아웃을 가진 WebClient를 생성합니다.
+     * 풀 사용량은 reactor.netty.connection.provider.*, 응답 시간은 goready.upstream.requests 지표로 노출됩니다.
+     * 모든 요청은 보내기 전에 rateLimiter의 토큰을 얻어야 합니다.
+     * @param name 커넥션 풀 이름
+     * @param client upstream 연결 설정
+     * @param rateLimiter upstream API 키의 호출 한도
+     * @return WebClient
+     */
+    private WebClient buildWebClient(String name, UpstreamProperties.Client client, RateLimiter rateLimiter) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(client.maxConnections())
+                .pendingAcquireMaxCount(client.pendingAcquireMaxCount()) // 대기 요청이 무한정 쌓이지 않도록 제한
+                .pendingAcquireTimeout(client.pendingAcquireTimeout())
+                .maxIdleTime(client.maxIdleTime())
+                .maxLifeTime(client.maxLifeTime())
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(client.responseTimeout())
+                .compress(client.compress());
+        if (client.http2()) {
+            // ALPN으로 HTTP/2를 협상하고, 지원하지 않으면 HTTP/1.1 사용
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+
         return WebClient.builder()
-                .baseUrl("https://dapi.kakao.com")
+                .baseUrl(client.baseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(rateLimiter.filter()) // 한도로 막힌 호출은 upstream 지표에 넣지 않도록 먼저 적용
+                .filter(metricsUtil.upstreamFilter(name))
                 .build();
     }
 
     @Bean
-    public CorsFilter corsFilter() {
+    public CorsWebFilter corsWebFilter() {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         CorsConfiguration config = new CorsConfiguration();
 
@@ -44,6 +103,6 @@ public class WebConfig {
         config.setAllowCredentials(true);
 
         source.registerCorsConfiguration("/**", config);
-        return new CorsFilter(source);
+        return new CorsWebFilter(source);
     }
 }
@@ -0,0 +1,39 @@
+package com.example.goready.global.quota;
+
+import com.example.goready.utils.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * upstream별 오늘 호출 수와 일일 한도를 보여줍니다. (GET /actuator/upstreamquota)
+ * 모든 노드가 함께 쓰는 Redis 카운터를 읽으므로 클러스터 전체 사용량입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "upstreamquota")
+public class UpstreamQuotaEndpoint {
+
+    private final List<RateLimiter> rateLimiters;
+
+    @ReadOperation
+    public Mono<Map<String, QuotaUsage>> quota() {
+        return Flux.fromIterable(rateLimiters)
+                .concatMap(rateLimiter -> rateLimiter.usedToday()
+                        .map(used -> Map.entry(rateLimiter.getName(), new QuotaUsage(used, rateLimiter.getDailyQuota()))))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue, LinkedHashMap::new);
+    }
+
+    public record QuotaUsage(long used, long dailyQuota) {
+        public long remaining() {
+            return Math.max(0, dailyQuota - used);
+        }
+    }
+}
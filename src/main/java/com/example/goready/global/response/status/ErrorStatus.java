@@ -9,8 +9,11 @@ import org.springframework.http.HttpStatus;
 public enum ErrorStatus {
 
     LOCATION_BAD_REQUEST(HttpStatus.BAD_REQUEST, "위치 요청이 잘못되었습니다."),
+    BATCH_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 위치 개수를 초과했습니다."),
     GET_ADDRESS_FAIL(HttpStatus.NOT_FOUND, "주소를 찾을 수 없습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다."),
+    UPSTREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 API가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해 주세요."),
+    UPSTREAM_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "외부 API 호출 한도에 도달했습니다. 잠시 후 다시 시도해 주세요."),
 
     DUST_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "미세먼지 정보를 가져오는 중 오류가 발생했습니다."),
     DUST_CLIENT_ERROR(HttpStatus.BAD_REQUEST, "미세먼지 정보에 요청에 오류가 발생했습니다."),
@@ -9,7 +9,9 @@ import org.springframework.http.HttpStatus;
 public enum SuccessStatus {
 
     SUCCESS_GET_DUST(HttpStatus.OK, "미세먼지 조회 성공입니다."),
-    SUCCESS_GET_WEATHER(HttpStatus.OK, "날씨 조회 성공입니다.");
+    SUCCESS_GET_WEATHER(HttpStatus.OK, "날씨 조회 성공입니다."),
+    SUCCESS_GET_WEATHER_BATCH(HttpStatus.OK, "날씨 일괄 조회 성공입니다."),
+    SUCCESS_GET_READY(HttpStatus.OK, "외출준비 정보 조회 성공입니다.");
 
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,104 @@
+package com.example.goready.service.mask;
+
+import com.example.goready.global.cache.CachePolicy;
+import com.example.goready.utils.CircuitBreaker;
+import com.example.goready.utils.MetricsUtil;
+import com.example.goready.utils.RateLimiter;
+import com.example.goready.utils.ReactiveRedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매시 전국 17개 시도의 대기오염 정보를 한 번씩 조회해 모든 시/군/구의 PM10 값을 Redis에 미리 저장합니다.
+ * 에어코리아 호출이 요청된 지역 수와 관계없이 시간당 17회로 고정되고, /api/mask 요청은 캐시 조회만으로 응답합니다.
+ * 카카오 주소와 이름이 다른 시/군/구(예: 수원시 장안구)는 기존처럼 요청 시 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "dust.ingestion.enabled", havingValue = "true", matchIfMissing = true)
+public class DustIngestionJob {
+
+    static final List<String> SIDOS = List.of(
+            "서울", "부산", "대구", "인천", "광주", "대전", "울산", "경기", "강원",
+            "충북", "충남", "전북", "전남", "경북", "경남", "제주", "세종");
+
+    private final MaskService maskService;
+    private final DustParser dustParser;
+    private final ReactiveRedisUtil reactiveRedisUtil;
+    private final MetricsUtil metricsUtil;
+    private final CachePolicy cachePolicy;
+    private final CircuitBreaker airKoreaCircuitBreaker;
+
+    @Value("${dust.ingestion.concurrency:4}")
+    private int concurrency;
+
+    @Value("${dust.ingestion.on-startup:true}")
+    private boolean ingestOnStartup;
+
+    @Value("${rate-limit.background-max-wait:60s}")
+    private Duration backgroundMaxWait;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ingestOnStartup() {
+        if (ingestOnStartup) {
+            ingestAllSidos();
+        }
+    }
+
+    /**
+     * 대기오염 정보는 매시 15분경 갱신되므로 20분에 조회합니다.
+     * 같은 값을 다음 시간대 키에도 저장해 다음 수집 전까지의 정각 이후 요청도 캐시에서 응답합니다.
+     */
+    @Scheduled(cron = "${dust.ingestion.cron:0 20 * * * *}")
+    public void ingestAllSidos() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime nextHour = now.plusHours(1);
+
+        Flux.fromIterable(SIDOS)
+                .flatMap(sidoName -> airKoreaCircuitBreaker.protect(maskService.requestSidoMeasurements(sidoName))
+                        .retryWhen(RateLimiter.backgroundRetry(backgroundMaxWait))
+                        .map(response -> Map.entry(sidoName,
+                                metricsUtil.recordParse("air-korea", () -> dustParser.extractAllPm10Values(response))))
+                        .onErrorResume(e -> {
+                            log.warn("Failed to ingest dust data for {}: {}", sidoName, e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .contextWrite(RateLimiter.background()) // 사용자 요청을 위한 호출 한도 예약분은 쓰지 않음
+                .collectList()
+                .flatMap(sidos -> {
+                    Map<String, String> current = new HashMap<>();
+                    Map<String, String> next = new HashMap<>();
+                    Map<String, String> stale = new HashMap<>();
+                    sidos.forEach(sido -> sido.getValue().forEach((cityName, pm10Value) -> {
+                        String value = String.valueOf(pm10Value);
+                        current.put(cachePolicy.maskKey(sido.getKey(), cityName, now), value);
+                        next.put(cachePolicy.maskKey(sido.getKey(), cityName, nextHour), value);
+                        stale.put(cachePolicy.maskStaleKey(sido.getKey(), cityName), value);
+                    }));
+                    return Mono.zip(
+                                    reactiveRedisUtil.setValues(current, cachePolicy.maskTtl(now)),
+                                    reactiveRedisUtil.setValues(next, cachePolicy.maskTtl(nextHour)),
+                                    reactiveRedisUtil.setValues(stale, cachePolicy.staleTtl()))
+                            .map(saved -> Map.entry(sidos.size(), saved.getT1()));
+                })
+                .subscribe(
+                        result -> log.info("Ingested {} cities from {} sidos for {}", result.getValue(), result.getKey(), now),
+                        e -> log.warn("Failed to save ingested dust data: {}", e.getMessage()));
+    }
+}
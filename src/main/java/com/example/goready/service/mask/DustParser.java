@@ -0,0 +1,80 @@
+package com.example.goready.service.mask;
+
+import com.example.goready.global.exception.GlobalException;
+import com.example.goready.global.response.status.ErrorStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 에어코리아 시도별 실시간 측정정보(getCtprvnMesureSidoLIst) 응답을 파싱합니다.
+ */
+@Slf4j
+@Component
+public class DustParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * API 응답 JSON에서 도시 이름을 기준으로 PM10 값을 추출합니다.
+     * @param response API 응답 JSON
+     * @param cityName 도시 이름
+     * @return PM10 값
+     */
+    public int extractPm10Value(String response, String cityName) {
+        try {
+            JsonNode rootNode = OBJECT_MAPPER.readTree(response);
+            JsonNode itemsNode = rootNode.path("response").path("body").path("items");
+
+            if (itemsNode.isArray()) {
+                for (JsonNode itemNode : itemsNode) {
+                    if (cityName.equals(itemNode.path("cityName").asText())) {
+                        return itemNode.path("pm10Value").asInt();
+                    }
+                }
+                // 매칭된 시/군/구 이름이 없는 경우 첫 번째 항목의 pm10Value 반환
+                if (!itemsNode.isEmpty()) {
+                    log.info("No dust data for {}, using the first item's pm10Value", cityName);
+                    return itemsNode.get(0).path("pm10Value").asInt();
+                } else {
+                    // itemsNode가 비어 있는 경우
+                    log.info("Dust response has no items for {}", cityName);
+                    throw new GlobalException(ErrorStatus.DUST_DATA_NOT_FOUND);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to parse dust response for {}: {}", cityName, e.getMessage());
+            throw new GlobalException(ErrorStatus.DUST_SERVER_ERROR);
+        }
+        return 0;
+    }
+
+    /**
+     * API 응답 JSON에서 모든 시/군/구의 PM10 값을 추출합니다.
+     * 측정소 점검 등으로 값이 숫자가 아닌("-") 도시는 제외합니다.
+     * @param response API 응답 JSON
+     * @return 시/군/구 이름별 PM10 값
+     */
+    public Map<String, Integer> extractAllPm10Values(String response) {
+        try {
+            JsonNode itemsNode = OBJECT_MAPPER.readTree(response).path("response").path("body").path("items");
+            Map<String, Integer> pm10Values = new LinkedHashMap<>();
+            for (JsonNode itemNode : itemsNode) {
+                String cityName = itemNode.path("cityName").asText();
+                String pm10Value = itemNode.path("pm10Value").asText();
+                if (!cityName.isEmpty() && !pm10Value.isEmpty() && pm10Value.chars().allMatch(Character::isDigit)) {
+                    pm10Values.putIfAbsent(cityName, Integer.parseInt(pm10Value));
+                }
+            }
+            return pm10Values;
+        } catch (Exception e) {
+            log.error("Failed to parse dust response: {}", e.getMessage());
+            throw new GlobalException(ErrorStatus.DUST_SERVER_ERROR);
+        }
+    }
+}
+
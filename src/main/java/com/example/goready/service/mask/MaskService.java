@@ -2,31 +2,52 @@ package com.example.goready.service.mask;
 
 import com.example.goready.converter.MaskConverter;
 import com.example.goready.dto.Address;
+import com.example.goready.dto.DustData;
 import com.example.goready.dto.MaskResponse;
+import com.example.goready.global.cache.CachePolicy;
+import com.example.goready.global.cache.StaleWhileRevalidate;
 import com.example.goready.global.exception.GlobalException;
 import com.example.goready.global.response.status.ErrorStatus;
+import com.example.goready.service.prewarm.HotSpotRegistry;
 import com.example.goready.utils.AddressUtil;
-import com.example.goready.utils.RedisUtil;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.goready.utils.CircuitBreaker;
+import com.example.goready.utils.LocalCacheUtil;
+import com.example.goready.utils.MetricsUtil;
+import com.example.goready.utils.ReactiveRedisUtil;
+import com.example.goready.utils.RefreshLock;
+import com.example.goready.utils.RequestCoalescer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MaskService {
 
     private final AddressUtil addressUtil;
-    private final RedisUtil redisUtil;
-    private final WebClient webClient;
+    private final ReactiveRedisUtil reactiveRedisUtil;
+    private final LocalCacheUtil localCacheUtil;
+    private final HotSpotRegistry hotSpotRegistry;
+    private final MetricsUtil metricsUtil;
+    private final CachePolicy cachePolicy;
+    private final StaleWhileRevalidate staleWhileRevalidate;
+    private final CircuitBreaker airKoreaCircuitBreaker;
+    private final RefreshLock refreshLock;
+    private final Scheduler blockingScheduler;
+    private final DustParser dustParser;
+    private final WebClient airKoreaWebClient;
+
+    // 같은 시도+시군구의 캐시 미스 요청은 upstream 호출 하나를 공유
+    private final RequestCoalescer<String, Integer> maskRequests = new RequestCoalescer<>();
 
     @Value("${mask.api-key}")
     private String maskApiKey;
@@ -40,61 +61,130 @@ public class MaskService {
     public Mono<MaskResponse.MaskDto> getMaskInfo(double lat, double lon) {
         // 위도, 경도를 사용하여 주소 정보를 가져옵니다.
         return addressUtil.getAddress(lat, lon)
-                .flatMap(address -> {
-                    // Redis 키 생성
-                    String redisKey = generateRedisKey(address);
-
-                    // Redis에 저장된 PM10 데이터가 있는지 확인
-                    String cachedPm10Value = redisUtil.getValues(redisKey);
-                    if (redisUtil.checkExistsValue(cachedPm10Value)) {
-                        // 캐시된 데이터가 있으면 MaskResponse를 생성하여 반환
-                        return Mono.just(createMaskResponseFromCache(cachedPm10Value, address));
-                    }
-                    // 캐시된 데이터가 없으면 API 호출하여 데이터 조회
-                    return fetchMaskDataFromApi(address, redisKey);
-                });
+                .flatMap(this::getMaskInfo);
     }
 
     /**
-     * 주소와 현재 시각을 기반으로 Redis 키를 생성합니다.
+     * 이미 조회한 주소로 마스크 정보를 조회합니다.
      * @param address 주소 정보
-     * @return Redis 키 문자열
+     * @return 마스크 정보 DTO
      */
-    private String generateRedisKey(Address address) {
-        String timeKey = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH"));
-        return "maskInfo:" + address.sidoName() + address.cityName() + ":" + timeKey;
+    public Mono<MaskResponse.MaskDto> getMaskInfo(Address address) {
+        hotSpotRegistry.recordRegion(address); // 사전 캐싱 대상으로 기록
+        return getPm10Value(address, LocalDateTime.now())
+                .map(dustData -> createMaskResponse(dustData, address));
     }
 
     /**
-     * 캐시된 PM10 값을 기반으로 MaskResponse를 생성합니다.
+     * 주소와 기준 시각으로 PM10 값을 조회합니다.
+     * 기준 시각을 다음 정각으로 주면 해당 시간의 캐시를 미리 채울 수 있습니다.
+     * @param address 주소 정보
+     * @param now 조회 기준 시각
+     * @return PM10 조회 결과
+     */
+    public Mono<DustData> getPm10Value(Address address, LocalDateTime now) {
+        // Redis 키 생성
+        String redisKey = cachePolicy.maskKey(address, now);
+
+        // 로컬 캐시(L1)에 PM10 값이 있으면 Redis를 거치지 않고 반환
+        Optional<Integer> localPm10Value = localCacheUtil.getPm10(redisKey);
+        if (localPm10Value.isPresent()) {
+            metricsUtil.countCache("mask", MetricsUtil.HIT_LOCAL);
+            return Mono.just(new DustData(localPm10Value.get(), false));
+        }
+
+        // Redis에 저장된 PM10 데이터가 있는지 논블로킹으로 확인
+        return reactiveRedisUtil.getValue(redisKey)
+                .flatMap(cachedPm10Value -> cachedPm10Value
+                        // 캐시된 데이터가 있으면 로컬 캐시에 올리고 반환
+                        .map(value -> {
+                            metricsUtil.countCache("mask", MetricsUtil.HIT_TODAY);
+                            return Mono.just(new DustData(getPm10ValueFromCache(value, redisKey, now), false));
+                        })
+                        // 캐시된 데이터가 없으면 API 호출하여 데이터 조회 (동시 요청은 한 번만 호출)
+                        .orElseGet(() -> {
+                            metricsUtil.countCache("mask", MetricsUtil.MISS);
+                            Mono<Integer> refresh = maskRequests.execute(redisKey, () -> refreshLock.execute(redisKey,
+                                    () -> airKoreaCircuitBreaker.protect(fetchMaskDataFromApi(address, redisKey, now)),
+                                    () -> reactiveRedisUtil.getValue(redisKey)
+                                            .flatMap(Mono::justOrEmpty)
+                                            .map(value -> getPm10ValueFromCache(value, redisKey, now))));
+                            return staleWhileRevalidate.serve("dust " + address.sidoName() + " " + address.cityName(),
+                                    refresh.map(pm10Value -> new DustData(pm10Value, false)), () -> readStale(address), now);
+                        }));
+    }
+
+    private Mono<DustData> readStale(Address address) {
+        return reactiveRedisUtil.getValue(cachePolicy.maskStaleKey(address))
+                .flatMap(Mono::justOrEmpty)
+                .map(value -> new DustData(Integer.parseInt(value), true))
+                .doOnNext(dustData -> metricsUtil.countCache("mask", MetricsUtil.HIT_STALE));
+    }
+
+    /**
+     * 캐시된 PM10 값을 로컬 캐시에 올리고 반환합니다.
      * @param cachedPm10Value 캐시된 PM10 값
+     * @param redisKey Redis 캐시 키
+     * @param now 조회 기준 시각
+     * @return PM10 값
+     */
+    private int getPm10ValueFromCache(String cachedPm10Value, String redisKey, LocalDateTime now) {
+        int pm10Value = Integer.parseInt(cachedPm10Value);
+        cacheLocally(redisKey, pm10Value, now);
+        return pm10Value;
+    }
+
+    /**
+     * 현재 시간대의 값만 로컬 캐시에 올립니다.
+     * 로컬 캐시는 다음 정각에 만료되므로, 미리 채우는 다음 시간대 값은 Redis에만 둡니다.
+     * @param redisKey Redis 캐시 키
+     * @param pm10Value PM10 값
+     * @param now 조회 기준 시각
+     */
+    private void cacheLocally(String redisKey, int pm10Value, LocalDateTime now) {
+        if (cachePolicy.isCurrentHour(now)) {
+            localCacheUtil.putPm10(redisKey, pm10Value);
+        }
+    }
+
+    /**
+     * PM10 값을 기반으로 MaskResponse를 생성합니다.
+     * @param dustData PM10 조회 결과
      * @param address 주소 정보
      * @return MaskResponse DTO
      */
-    private MaskResponse.MaskDto createMaskResponseFromCache(String cachedPm10Value, Address address) {
-        int pm10Value = Integer.parseInt(cachedPm10Value);
+    public MaskResponse.MaskDto createMaskResponse(DustData dustData, Address address) {
+        int pm10Value = dustData.pm10Value();
         boolean isMaskRequired = pm10Value >= 80;
         boolean isAlert = pm10Value >= 300;
-        return MaskConverter.toMaskDto(isAlert, isMaskRequired, address);
+        return MaskConverter.toMaskDto(isAlert, isMaskRequired, address, dustData.stale());
     }
 
     /**
-     * 외부 API에서 마스크 데이터를 조회하고 Redis에 저장합니다.
+     * 외부 API에서 PM10 값을 조회하고 Redis와 로컬 캐시에 저장합니다.
      * @param address 주소 정보
      * @param redisKey Redis 캐시 키
-     * @return MaskResponse DTO
+     * @param now 조회 기준 시각
+     * @return PM10 값
      */
-    private Mono<MaskResponse.MaskDto> fetchMaskDataFromApi(Address address, String redisKey) {
-        return webClient.get()
+    private Mono<Integer> fetchMaskDataFromApi(Address address, String redisKey, LocalDateTime now) {
+        return requestSidoMeasurements(address.sidoName())
+                .flatMap(response -> processApiResponse(response, address, redisKey, now));
+    }
+
+    /**
+     * 시도의 모든 시/군/구 실시간 측정정보를 조회합니다. (getCtprvnMesureSidoLIst)
+     * @param sidoName 시도 이름 (서울, 경기 등)
+     * @return API 응답 JSON
+     */
+    Mono<String> requestSidoMeasurements(String sidoName) {
+        return airKoreaWebClient.get()
                 .uri(uriBuilder -> uriBuilder
-                        .scheme("https")
-                        .host("apis.data.go.kr")
                         .path("/B552584/ArpltnStatsSvc/getCtprvnMesureSidoLIst")
                         .queryParam("serviceKey", maskApiKey)
-                        .queryParam("sidoName", address.sidoName())
-                        .queryParam("cityName", address.cityName())
+                        .queryParam("sidoName", sidoName)
                         .queryParam("pageNo", 1)
-                        .queryParam("numOfRows", 50)
+                        .queryParam("numOfRows", 100) // 시도 안의 모든 시/군/구
                         .queryParam("searchCondition", "HOUR")
                         .queryParam("returnType", "json")
                         .build())
@@ -102,22 +192,24 @@ public class MaskService {
                 .onStatus(HttpStatusCode::is4xxClientError, this::handleClientError)
                 .onStatus(HttpStatusCode::is5xxServerError, this::handleServerError)
                 .bodyToMono(String.class)
-                .map(response -> processApiResponse(response, address, redisKey));
+                .publishOn(blockingScheduler); // 파싱은 blockingScheduler에서 실행
     }
 
     /**
-     * API 응답을 처리하고, PM10 값을 추출하여 Redis에 캐싱하며, 응답 DTO를 생성합니다.
+     * API 응답을 처리하고, PM10 값을 추출하여 기준 시간대가 끝날 때까지 Redis와 로컬 캐시에 저장합니다.
      * @param response API 응답 JSON
      * @param address 주소 정보
      * @param redisKey Redis 캐시 키
-     * @return MaskResponse DTO
+     * @param now 조회 기준 시각
+     * @return PM10 값
      */
-    private MaskResponse.MaskDto processApiResponse(String response, Address address, String redisKey) {
-        int pm10Value = extractPm10Value(response, address.cityName());
-        redisUtil.setValues(redisKey, String.valueOf(pm10Value), Duration.ofMinutes(60 - LocalDateTime.now().getMinute()));
-        boolean isMaskRequired = pm10Value >= 80;
-        boolean isAlert = pm10Value >= 300;
-        return MaskConverter.toMaskDto(isAlert, isMaskRequired, address);
+    private Mono<Integer> processApiResponse(String response, Address address, String redisKey, LocalDateTime now) {
+        int pm10Value = metricsUtil.recordParse("air-korea", () -> dustParser.extractPm10Value(response, address.cityName()));
+        return Mono.when(
+                        reactiveRedisUtil.setValue(redisKey, String.valueOf(pm10Value), cachePolicy.maskTtl(now)),
+                        reactiveRedisUtil.setValue(cachePolicy.maskStaleKey(address), String.valueOf(pm10Value), cachePolicy.staleTtl()))
+                .doOnSuccess(saved -> cacheLocally(redisKey, pm10Value, now))
+                .thenReturn(pm10Value);
     }
 
     /**
@@ -141,40 +233,4 @@ public class MaskService {
         return clientResponse.bodyToMono(String.class)
                 .flatMap(errorBody -> Mono.error(new GlobalException(ErrorStatus.DUST_SERVER_ERROR)));
     }
-
-    /**
-     * API 응답 JSON에서 도시 이름을 기준으로 PM10 값을 추출합니다.
-     * @param response API 응답 JSON
-     * @param cityName 도시 이름
-     * @return PM10 값
-     */
-    private int extractPm10Value(String response, String cityName) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode itemsNode = rootNode.path("response").path("body").path("items");
-
-            if (itemsNode.isArray()) {
-                for (JsonNode itemNode : itemsNode) {
-                    if (cityName.equals(itemNode.path("cityName").asText())) {
-                        return itemNode.path("pm10Value").asInt();
-                    }
-                }
-                // 매칭된 시/군/구 이름이 없는 경우 첫 번째 항목의 pm10Value 반환
-                if (!itemsNode.isEmpty()) {
-                    System.out.println("매칭된 시/군/구 이름이 없습니다. 첫 번째 항목의 pm10Value를 반환합니다.");
-                    return itemsNode.get(0).path("pm10Value").asInt();
-                } else {
-                    // itemsNode가 비어 있는 경우
-                    System.out.println("데이터가 비어 있습니다.");
-                    throw new GlobalException(ErrorStatus.DUST_DATA_NOT_FOUND);
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new GlobalException(ErrorStatus.DUST_SERVER_ERROR);
-        }
-        return 0;
-    }
 }
-
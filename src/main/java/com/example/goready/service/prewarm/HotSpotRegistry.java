@@ -0,0 +1,50 @@
+package com.example.goready.service.prewarm;
+
+import com.example.goready.dto.Address;
+import com.example.goready.dto.LonXLatY;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 최근 요청된 격자 좌표와 시도/시군구를 기록합니다.
+ * 일정 시간 동안 요청이 없으면 사전 캐싱 대상에서 빠집니다.
+ */
+@Component
+public class HotSpotRegistry {
+
+    private final Cache<String, LonXLatY> cells;
+    private final Cache<String, Address> regions;
+
+    public HotSpotRegistry(@Value("${prewarm.retention:24h}") Duration retention,
+                           @Value("${prewarm.max-size:5000}") long maximumSize) {
+        this.cells = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maximumSize)
+                .build();
+        this.regions = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void recordCell(LonXLatY xy) {
+        cells.put("X" + xy.x + "Y" + xy.y, xy);
+    }
+
+    public void recordRegion(Address address) {
+        regions.put(address.sidoName() + address.cityName(), address);
+    }
+
+    public List<LonXLatY> recentCells() {
+        return List.copyOf(cells.asMap().values());
+    }
+
+    public List<Address> recentRegions() {
+        return List.copyOf(regions.asMap().values());
+    }
+}
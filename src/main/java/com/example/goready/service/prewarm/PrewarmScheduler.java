@@ -0,0 +1,67 @@
+package com.example.goready.service.prewarm;
+
+import com.example.goready.service.mask.MaskService;
+import com.example.goready.service.weather.WeatherApiService;
+import com.example.goready.utils.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 최근 요청된 격자/지역의 다음 시간대 캐시를 정각 전에 미리 채웁니다.
+ * 단기예보(02시 발표 이후 10분 내 제공)와 대기오염 정보(매시 15분경 갱신)는 매시 55분이면 모두 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "prewarm.enabled", havingValue = "true", matchIfMissing = true)
+public class PrewarmScheduler {
+
+    private final HotSpotRegistry hotSpotRegistry;
+    private final WeatherApiService weatherApiService;
+    private final MaskService maskService;
+
+    @Value("${prewarm.concurrency:4}")
+    private int concurrency;
+
+    @Value("${rate-limit.background-max-wait:60s}")
+    private Duration backgroundMaxWait;
+
+    @Scheduled(cron = "${prewarm.cron:0 55 * * * *}")
+    public void prewarmNextHour() {
+        LocalDateTime nextHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+
+        Flux<Boolean> weather = Flux.fromIterable(hotSpotRegistry.recentCells())
+                .flatMap(xy -> weatherApiService.getWeatherInfo(xy, nextHour)
+                        .retryWhen(RateLimiter.backgroundRetry(backgroundMaxWait))
+                        .map(weatherData -> true)
+                        .onErrorResume(e -> {
+                            log.warn("Failed to prewarm weather X{}Y{}: {}", xy.x, xy.y, e.getMessage());
+                            return Mono.just(false);
+                        }), concurrency);
+
+        Flux<Boolean> mask = Flux.fromIterable(hotSpotRegistry.recentRegions())
+                .flatMap(address -> maskService.getPm10Value(address, nextHour)
+                        .retryWhen(RateLimiter.backgroundRetry(backgroundMaxWait))
+                        .map(pm10Value -> true)
+                        .onErrorResume(e -> {
+                            log.warn("Failed to prewarm mask {} {}: {}", address.sidoName(), address.cityName(), e.getMessage());
+                            return Mono.just(false);
+                        }), concurrency);
+
+        Flux.concat(weather, mask)
+                .contextWrite(RateLimiter.background()) // 사용자 요청을 위한 호출 한도 예약분은 쓰지 않음
+                .filter(success -> success)
+                .count()
+                .subscribe(count -> log.info("Prewarmed {} cache entries for {}", count, nextHour));
+    }
+}
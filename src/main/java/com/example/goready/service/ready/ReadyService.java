@@ -0,0 +1,66 @@
+package com.example.goready.service.ready;
+
+import com.example.goready.converter.ReadyConverter;
+import com.example.goready.dto.LonXLatY;
+import com.example.goready.dto.ReadyResponse;
+import com.example.goready.service.mask.MaskService;
+import com.example.goready.service.weather.WeatherService;
+import com.example.goready.utils.AddressUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Service
+@RequiredArgsConstructor
+public class ReadyService {
+
+    private final WeatherService weatherService;
+    private final MaskService maskService;
+    private final AddressUtil addressUtil;
+    private final ReadyStreamHub readyStreamHub;
+
+    @Value("${ready.stream.heartbeat-interval:30s}")
+    private Duration heartbeatInterval;
+
+    /**
+     * 한 위치의 날씨와 미세먼지 정보를 한 번에 조회합니다.
+     * 격자 변환과 주소 조회는 한 번씩만 하고, 두 조회는 동시에 진행합니다.
+     * @param lat 위도
+     * @param lon 경도
+     * @return 날씨와 마스크 정보 DTO
+     */
+    public Mono<ReadyResponse.ReadyDto> getReady(double lat, double lon) {
+        LonXLatY xy = weatherService.toGrid(lon, lat);
+
+        return Mono.zip(
+                        weatherService.getWeather(xy),
+                        addressUtil.getAddress(lat, lon).flatMap(maskService::getMaskInfo))
+                .map(ready -> ReadyConverter.toReadyDto(ready.getT1(), ready.getT2()));
+    }
+
+    /**
+     * 한 위치의 날씨와 미세먼지 정보가 바뀔 때마다 SSE로 보냅니다. (event: weather, mask)
+     * 연결이 끊기지 않도록 heartbeatInterval마다 주석 이벤트를 함께 보냅니다.
+     * @param lat 위도
+     * @param lon 경도
+     * @return SSE 이벤트 스트림
+     */
+    public Flux<ServerSentEvent<Object>> streamReady(double lat, double lon) {
+        LonXLatY xy = weatherService.toGrid(lon, lat);
+
+        return addressUtil.getAddress(lat, lon)
+                .flatMapMany(address -> Flux.merge(
+                        readyStreamHub.weather(xy).map(weatherDto -> event("weather", weatherDto)),
+                        readyStreamHub.mask(address).map(maskDto -> event("mask", maskDto)),
+                        Flux.interval(heartbeatInterval).map(tick -> ServerSentEvent.builder().comment("heartbeat").build())));
+    }
+
+    private ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.goready.service.ready;
+
+import com.example.goready.dto.Address;
+import com.example.goready.dto.DustData;
+import com.example.goready.dto.LonXLatY;
+import com.example.goready.dto.MaskResponse;
+import com.example.goready.dto.WeatherResponse;
+import com.example.goready.service.mask.MaskService;
+import com.example.goready.service.weather.WeatherService;
+import com.example.goready.utils.GridUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 격자/지역별로 하나의 공유 Flux를 두고 구독자에게 값이 바뀔 때만 전달합니다.
+ * 같은 격자를 구독하는 클라이언트가 N명이어도 조회는 pollInterval마다 한 번이며, 마지막 구독자가 떠나면 조회를 멈춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadyStreamHub {
+
+    private final WeatherService weatherService;
+    private final MaskService maskService;
+
+    private final Map<Integer, Flux<WeatherResponse.WeatherDto>> weatherStreams = new ConcurrentHashMap<>();
+    // PM10은 시도+시군구 단위이므로 동이 달라도 같은 지역이면 하나의 스트림을 공유
+    private final Map<String, Flux<DustData>> maskStreams = new ConcurrentHashMap<>();
+
+    // 대부분 로컬 캐시에서 응답하므로 짧게 잡아도 upstream 호출은 시간당 한 번
+    @Value("${ready.stream.poll-interval:1m}")
+    private Duration pollInterval;
+
+    public Flux<WeatherResponse.WeatherDto> weather(LonXLatY xy) {
+        return share(weatherStreams, GridUtils.pack(xy.x, xy.y), () -> weatherService.getWeather(xy));
+    }
+
+    public Flux<MaskResponse.MaskDto> mask(Address address) {
+        return share(maskStreams, address.sidoName() + address.cityName(),
+                () -> maskService.getPm10Value(address, LocalDateTime.now()))
+                .map(dustData -> maskService.createMaskResponse(dustData, address));
+    }
+
+    /**
+     * 키별 공유 Flux를 반환합니다. 새 구독자는 마지막 값을 바로 받고(replay(1)), 이후에는 바뀐 값만 받습니다.
+     * @param streams 키별 공유 Flux
+     * @param key 격자 또는 지역
+     * @param refresh 현재 값을 조회하는 요청
+     * @return 값이 바뀔 때마다 발행하는 Flux
+     */
+    private <K, T> Flux<T> share(Map<K, Flux<T>> streams, K key, Supplier<Mono<T>> refresh) {
+        return streams.computeIfAbsent(key, k -> {
+            // 조회가 멈춘 뒤 다시 연결된 이전 Flux가 새로 만든 같은 키의 Flux를 지우지 않도록 자기 자신만 제거
+            AtomicReference<Flux<T>> self = new AtomicReference<>();
+            Flux<T> shared = Flux.interval(Duration.ZERO, pollInterval)
+                    .onBackpressureDrop()
+                    .concatMap(tick -> refresh.get()
+                            .onErrorResume(e -> {
+                                log.warn("Failed to refresh stream {}: {}", k, e.getMessage());
+                                return Mono.empty();
+                            }))
+                    .distinctUntilChanged()
+                    .doFinally(signal -> streams.remove(k, self.get()))
+                    .replay(1)
+                    .refCount();
+            self.set(shared);
+            return shared;
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.goready.service.weather;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 단기예보(getVilageFcst)에서 필요한 행만 받도록 pageNo/numOfRows를 계산합니다.
+ * 응답은 발표시각 1시간 뒤부터 예보시각 순으로, 시각마다 12개 항목이
+ * TMP, UUU, VVV, VEC, WSD, SKY, PTY, POP, WAV, PCP, REH, SNO 순서로 나오고
+ * 06시에는 TMN, 15시에는 TMX가 마지막에 하나 더 붙습니다.
+ * 이 배치를 기준으로 필요한 행의 위치를 구해, 그 행들을 모두 포함하는 가장 작은 페이지를 고릅니다.
+ * 실제 응답에서 값을 다 찾지 못하면 호출하는 쪽에서 FULL 범위로 다시 조회합니다.
+ */
+@Component
+public class ForecastFetchPlanner {
+
+    public static final Window FULL_FORECAST = new Window(1, 270);
+    public static final Window FULL_TEMPERATURE = new Window(1, 40);
+
+    private static final int CATEGORIES_PER_HOUR = 12;
+    private static final int TMP_INDEX = 0;
+    private static final int DAILY_INDEX = 12; // TMN, TMX
+    private static final int TMN_HOUR = 6;
+    private static final int TMX_HOUR = 15;
+
+    private static final DateTimeFormatter BASE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    /**
+     * 첫 예보 시각부터 lastHour까지의 모든 행과 그날의 최저(TMN)/최고(TMX)기온을 포함하는 범위
+     * 한 번 받아 하루치 예보(ForecastSeries)로 저장하고, 이후 시각은 upstream 호출 없이 사용합니다.
+     * @param baseDate 발표일자 (yyyyMMdd)
+     * @param baseTime 발표시각 (HHmm)
+     * @param lastHour 이 발표시각으로 조회할 마지막 예보 시각
+     * @return 조회 범위
+     */
+    public Window seriesWindow(String baseDate, String baseTime, LocalDateTime lastHour) {
+        LocalDateTime first = firstForecastHour(baseDate, baseTime);
+        LocalDateTime hour = lastHour.truncatedTo(ChronoUnit.HOURS);
+        int end = rowIndex(first, hour.plusHours(1), TMP_INDEX); // lastHour 블록의 끝
+        LocalDateTime tmxHour = hour.truncatedTo(ChronoUnit.DAYS).plusHours(TMX_HOUR);
+        if (!tmxHour.isBefore(first)) {
+            end = Math.max(end, rowIndex(first, tmxHour, DAILY_INDEX) + 1);
+        }
+        return window(0, end);
+    }
+
+    /**
+     * 예보 시각의 기온(TMP) 한 행만 포함하는 범위
+     * @param baseDate 발표일자 (yyyyMMdd)
+     * @param baseTime 발표시각 (HHmm)
+     * @param target 예보 시각
+     * @return 조회 범위
+     */
+    public Window temperatureWindow(String baseDate, String baseTime, LocalDateTime target) {
+        LocalDateTime first = firstForecastHour(baseDate, baseTime);
+        int index = rowIndex(first, target.truncatedTo(ChronoUnit.HOURS), TMP_INDEX);
+        return window(index, index + 1);
+    }
+
+    /**
+     * [start, end) 행을 모두 포함하는 가장 작은 numOfRows와 그때의 pageNo를 구합니다.
+     * pageNo p, numOfRows n 이면 (p-1)*n 번째부터 n개 행이 응답됩니다.
+     * @param start 첫 행 (0부터)
+     * @param end 마지막 행 + 1
+     * @return 조회 범위
+     */
+    static Window window(int start, int end) {
+        for (int numOfRows = end - start; ; numOfRows++) {
+            int pageNo = start / numOfRows + 1;
+            if (pageNo * numOfRows >= end) {
+                return new Window(pageNo, numOfRows);
+            }
+        }
+    }
+
+    private LocalDateTime firstForecastHour(String baseDate, String baseTime) {
+        return LocalDateTime.parse(baseDate + baseTime, BASE_FORMAT).plusHours(1);
+    }
+
+    private int rowIndex(LocalDateTime first, LocalDateTime hour, int category) {
+        int rows = 0;
+        for (LocalDateTime t = first; t.isBefore(hour); t = t.plusHours(1)) {
+            rows += rowsAt(t);
+        }
+        return rows + category;
+    }
+
+    private int rowsAt(LocalDateTime hour) {
+        int h = hour.getHour();
+        return CATEGORIES_PER_HOUR + (h == TMN_HOUR || h == TMX_HOUR ? 1 : 0);
+    }
+
+    public record Window(int pageNo, int numOfRows) {
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.goready.service.weather;
+
+import com.example.goready.dto.ForecastData;
+import com.example.goready.dto.ForecastSeries;
+import com.example.goready.global.exception.GlobalException;
+import com.example.goready.global.response.status.ErrorStatus;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 기상청 단기예보(getVilageFcst) 응답을 스트리밍 방식으로 한 번만 읽어 필요한 값을 추출합니다.
+ * 한 시각의 값(parse) 또는 하루치 시간별 값(parseSeries)을 추출할 수 있습니다.
+ * JsonNode 트리를 만들지 않고 response.body.items.item 배열만 순회합니다.
+ */
+@Slf4j
+@Component
+public class ForecastParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /**
+     * WebClient에서 받은 버퍼를 파싱합니다. 버퍼는 파싱 후 해제됩니다.
+     * @param buffer API 응답 버퍼
+     * @param fcstDate 예보 날짜 (yyyyMMdd)
+     * @param fcstTime 예보 시각 (HH00)
+     * @return 추출한 예보 값
+     */
+    public ForecastData parse(DataBuffer buffer, String fcstDate, String fcstTime) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return parse(in, fcstDate, fcstTime);
+        } catch (IOException e) {
+            log.error("Failed to parse forecast response: {}", e.getMessage());
+            throw new GlobalException(ErrorStatus.WEATHER_DATA_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 최고기온(TMX), 최저기온(TMN)은 예보 날짜로, 강수확률(POP), 기온(TMP)은 예보 날짜와 시각으로 찾습니다.
+     * 각 항목은 처음 일치한 값을 사용하며, 네 항목을 모두 찾으면 나머지는 읽지 않습니다.
+     * @param in API 응답 JSON
+     * @param fcstDate 예보 날짜 (yyyyMMdd)
+     * @param fcstTime 예보 시각 (HH00)
+     * @return 추출한 예보 값 (찾지 못한 항목은 0)
+     */
+    public ForecastData parse(InputStream in, String fcstDate, String fcstTime) throws IOException {
+        ForecastData data = new ForecastData();
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (!moveToItems(parser)) {
+                return data;
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                readItem(parser, data, fcstDate, fcstTime);
+                if (data.has(ForecastData.ALL)) {
+                    break;
+                }
+            }
+        }
+        return data;
+    }
+
+    public ForecastSeries parseSeries(DataBuffer buffer, String fcstDate) {
+        try (InputStream in = buffer.asInputStream(true)) {
+            return parseSeries(in, fcstDate);
+        } catch (IOException e) {
+            log.error("Failed to parse forecast response: {}", e.getMessage());
+            throw new GlobalException(ErrorStatus.WEATHER_DATA_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 예보 날짜의 최고/최저기온과 시간별 기온, 강수확률을 모두 추출합니다.
+     * 각 항목은 처음 일치한 값을 사용합니다.
+     * @param in API 응답 JSON
+     * @param fcstDate 예보 날짜 (yyyyMMdd)
+     * @return 하루치 예보 (찾지 못한 시각은 tempHours, rainHours 비트가 0)
+     */
+    public ForecastSeries parseSeries(InputStream in, String fcstDate) throws IOException {
+        ForecastSeries series = new ForecastSeries();
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            if (!moveToItems(parser)) {
+                return series;
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                readSeriesItem(parser, series, fcstDate);
+            }
+        }
+        return series;
+    }
+
+    /**
+     * item 객체 하나를 읽고 조건에 맞으면 결과에 반영합니다.
+     */
+    private void readItem(JsonParser parser, ForecastData data, String fcstDate, String fcstTime) throws IOException {
+        int category = 0;
+        boolean dateMatched = false;
+        boolean timeMatched = false;
+        int value = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "category" -> category = toCategory(parser);
+                case "fcstDate" -> dateMatched = textEquals(parser, fcstDate);
+                case "fcstTime" -> timeMatched = textEquals(parser, fcstTime);
+                case "fcstValue" -> value = toInt(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (category == 0 || !dateMatched || data.has(category)) {
+            return;
+        }
+        if (category == ForecastData.MAX_TEMP) {
+            data.maxTemp = value;
+        } else if (category == ForecastData.MIN_TEMP) {
+            data.minTemp = value;
+        } else if (!timeMatched) {
+            return;
+        } else if (category == ForecastData.RAIN_PER) {
+            data.rainPer = value;
+        } else {
+            data.currentTemp = value;
+        }
+        data.found |= category;
+    }
+
+    /**
+     * item 객체 하나를 읽고 예보 날짜가 같으면 시각에 맞춰 하루치 예보에 반영합니다.
+     */
+    private void readSeriesItem(JsonParser parser, ForecastSeries series, String fcstDate) throws IOException {
+        int category = 0;
+        boolean dateMatched = false;
+        int hour = -1;
+        int value = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "category" -> category = toCategory(parser);
+                case "fcstDate" -> dateMatched = textEquals(parser, fcstDate);
+                case "fcstTime" -> hour = toHour(parser);
+                case "fcstValue" -> value = toInt(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (category == 0 || !dateMatched) {
+            return;
+        }
+        if (category == ForecastData.MAX_TEMP || category == ForecastData.MIN_TEMP) {
+            if ((series.found & category) == 0) {
+                if (category == ForecastData.MAX_TEMP) {
+                    series.maxTemp = value;
+                } else {
+                    series.minTemp = value;
+                }
+                series.found |= category;
+            }
+            return;
+        }
+        if (hour < 0) {
+            return;
+        }
+        int bit = 1 << hour;
+        if (category == ForecastData.RAIN_PER && (series.rainHours & bit) == 0) {
+            series.rainPers[hour] = value;
+            series.rainHours |= bit;
+        } else if (category == ForecastData.CURRENT_TEMP && (series.tempHours & bit) == 0) {
+            series.temps[hour] = value;
+            series.tempHours |= bit;
+        }
+    }
+
+    /**
+     * response.body.items.item 배열의 시작으로 이동합니다.
+     */
+    private boolean moveToItems(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return moveToField(parser, "response") && moveToField(parser, "body")
+                && moveToField(parser, "items") && moveToField(parser, "item")
+                && parser.currentToken() == JsonToken.START_ARRAY;
+    }
+
+    /**
+     * 현재 객체에서 이름이 일치하는 필드의 값으로 이동합니다. 다른 필드는 건너뜁니다.
+     */
+    private boolean moveToField(JsonParser parser, String name) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (name.equals(field)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    /**
+     * 필요한 카테고리(TMX, TMN, POP, TMP)를 문자열 생성 없이 판별합니다.
+     */
+    private int toCategory(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING || parser.getTextLength() != 3) {
+            return 0;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        char first = chars[offset];
+        char second = chars[offset + 1];
+        char third = chars[offset + 2];
+
+        if (first == 'T' && second == 'M') {
+            if (third == 'X') {
+                return ForecastData.MAX_TEMP;
+            }
+            if (third == 'N') {
+                return ForecastData.MIN_TEMP;
+            }
+            if (third == 'P') {
+                return ForecastData.CURRENT_TEMP;
+            }
+        } else if (first == 'P' && second == 'O' && third == 'P') {
+            return ForecastData.RAIN_PER;
+        }
+        return 0;
+    }
+
+    private boolean textEquals(JsonParser parser, String expected) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return false;
+        }
+        int length = parser.getTextLength();
+        if (length != expected.length()) {
+            return false;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        for (int i = 0; i < length; i++) {
+            if (chars[offset + i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * fcstTime("HH00")에서 시각을 읽습니다. 형식이 맞지 않으면 -1을 반환합니다.
+     */
+    private int toHour(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING || parser.getTextLength() != 4) {
+            return -1;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        char tens = chars[offset];
+        char ones = chars[offset + 1];
+        if (tens < '0' || tens > '2' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        int hour = (tens - '0') * 10 + (ones - '0');
+        return hour < ForecastSeries.HOURS ? hour : -1;
+    }
+
+    /**
+     * fcstValue를 정수로 변환합니다. "25.0"처럼 소수점이 있으면 버리고, 숫자가 아니면 0을 반환합니다.
+     */
+    private int toInt(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getValueAsInt();
+        }
+        if (token != JsonToken.VALUE_STRING) {
+            return 0;
+        }
+
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int end = offset + parser.getTextLength();
+        boolean negative = false;
+        if (offset < end && (chars[offset] == '-' || chars[offset] == '+')) {
+            negative = chars[offset] == '-';
+            offset++;
+        }
+        if (offset == end) {
+            return 0;
+        }
+
+        int result = 0;
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+            if (c == '.') {
+                break;
+            }
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return negative ? -result : result;
+    }
+}
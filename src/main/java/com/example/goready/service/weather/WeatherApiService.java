@@ -1,26 +1,47 @@
 package com.example.goready.service.weather;
 
+import com.example.goready.converter.ForecastSeriesCodec;
 import com.example.goready.converter.WeatherConverter;
+import com.example.goready.converter.WeatherDataCodec;
+import com.example.goready.dto.ForecastData;
+import com.example.goready.dto.ForecastSeries;
 import com.example.goready.dto.WeatherData;
+import com.example.goready.global.cache.CachePolicy;
+import com.example.goready.global.cache.StaleWhileRevalidate;
 import com.example.goready.global.exception.GlobalException;
 import com.example.goready.global.response.status.ErrorStatus;
+import com.example.goready.service.prewarm.HotSpotRegistry;
+import com.example.goready.utils.CircuitBreaker;
 import com.example.goready.utils.GridUtils;
+import com.example.goready.utils.LocalCacheUtil;
+import com.example.goready.utils.MetricsUtil;
 import com.example.goready.dto.LonXLatY;
-import com.example.goready.utils.RedisUtil;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.goready.utils.ReactiveRedisUtil;
+import com.example.goready.utils.RefreshLock;
+import com.example.goready.utils.RequestCoalescer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -30,9 +51,27 @@ public class WeatherApiService {
     @Value("${weather.api-key}")
     private String WEATHER_API_KEY;
 
-    private final WebClient webClient;
-    private final RedisUtil redisUtil;
+    private final WebClient kmaWebClient;
+    private final ReactiveRedisUtil reactiveRedisUtil;
+    private final LocalCacheUtil localCacheUtil;
     private final GridUtils gridUtils;
+    private final ForecastParser forecastParser;
+    private final ForecastFetchPlanner forecastFetchPlanner;
+    private final HotSpotRegistry hotSpotRegistry;
+    private final MetricsUtil metricsUtil;
+    private final CachePolicy cachePolicy;
+    private final StaleWhileRevalidate staleWhileRevalidate;
+    private final CircuitBreaker kmaCircuitBreaker;
+    private final RefreshLock refreshLock;
+    private final Scheduler blockingScheduler;
+
+    // 같은 격자/시각의 캐시 미스 요청은 upstream 호출 하나를 공유
+    private final RequestCoalescer<String, WeatherData> weatherRequests = new RequestCoalescer<>();
+    // 같은 격자/발표시각의 하루치 예보 조회를 공유
+    private final RequestCoalescer<String, ForecastSeries> seriesRequests = new RequestCoalescer<>();
+
+    @Value("${weather.batch.concurrency:8}")
+    private int batchConcurrency; // 일괄 조회 시 동시에 호출할 api 수
 
     /**
      * 위도와 경도를 기반으로 날씨 정보를 조회합니다.
@@ -41,218 +80,318 @@ public class WeatherApiService {
      * @return 날씨 Data
      */
     public Mono<WeatherData> getWeatherInfo(double lon, double lat) {
+        return getWeatherInfo(toGrid(lon, lat));
+    }
 
-        String baseDate = getBaseDate();
-        String yesterDate = getYesterDate();
-
+    /**
+     * 위경도를 격자 좌표로 변환합니다.
+     * @param lon 경도
+     * @param lat 위도
+     * @return 격자 좌표
+     */
+    public LonXLatY toGrid(double lon, double lat) {
         LonXLatY xy = gridUtils.convertGRID_GPS(lon, lat);
         if (xy.x == 0 && xy.y == 0) {
             System.out.println("Error: Invalid location coordinates. x: " + xy.x + ", y: " + xy.y);
             throw new GlobalException(ErrorStatus.LOCATION_BAD_REQUEST);
         } // 위도 경도 잘못 요청
+        return xy;
+    }
 
-        String redisKey = generateRedisKey(0, xy); // 오늘 날짜 rediskey
-        String yesterdayRedisKey = generateRedisKey(1, xy); // 어제 날짜 rediskey
-
-        String cachedWeatherData = redisUtil.getValues(redisKey); // 오늘 데이터
-        String cachedYesterdayData = redisUtil.getValues(yesterdayRedisKey); // 어제 데이터
-
-        Mono<Integer> yesterdayTempMono;
-        if (redisUtil.checkExistsValue(cachedWeatherData)) {
-            // 오늘 캐시된 데이터가 있으면 바로 반환
-            return Mono.just(createWeatherDtoFromCache(cachedWeatherData));
-        } else if (redisUtil.checkExistsValue(cachedYesterdayData)) {
-            // 어제 캐시된 데이터가 있으면 해당 데이터의 currentTemp를 yesterdayTemp로 가져옴
-            yesterdayTempMono = Mono.just(getyesterDataFromCache(cachedYesterdayData));
-        } else {
-            // 모두 없으면 api 호출
-            yesterdayTempMono = fetchYesterDataFromApi(xy, yesterDate);
-        }
-        Mono<WeatherData> weatherDataMono = fetchWeatherDataFromApi(xy, redisKey, baseDate);
-        // 두 비동기 요청을 병렬로 실행하여 결과 병합 및 Redis에 저장
-        return yesterdayTempMono.zipWith(weatherDataMono, (yesterdayTemp, weatherData) -> {
-            weatherData.setYesterdayTemp(yesterdayTemp); // `yesterdayTemp`를 `weatherData`에 설정
-            return weatherData;
-        }).doOnNext(weatherData -> {
-            // 완성된 `weatherData`를 Redis에 저장
-            saveWeatherDataToRedis(redisKey, weatherData, Duration.ofDays(1));
-        });
+    /**
+     * 격자 좌표로 현재 시각의 날씨 정보를 조회합니다.
+     * @param xy 격자 좌표
+     * @return 날씨 Data
+     */
+    public Mono<WeatherData> getWeatherInfo(LonXLatY xy) {
+        hotSpotRegistry.recordCell(xy); // 사전 캐싱 대상으로 기록
+        return getWeatherInfo(xy, LocalDateTime.now());
     }
 
     /**
-     * 캐시된 날씨 데이터를 기반으로 WeatherResponse를 생성합니다.
-     * @param cachedWeatherData 캐시된 오늘 날씨 데이터
-     * @return WeatherResponse.RainDto
+     * 격자 좌표와 기준 시각으로 날씨 정보를 조회합니다.
+     * 기준 시각을 다음 정각으로 주면 해당 시간의 캐시를 미리 채울 수 있습니다.
+     * @param xy 격자 좌표
+     * @param now 조회 기준 시각
+     * @return 날씨 Data
      */
-    private WeatherData createWeatherDtoFromCache(String cachedWeatherData) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            // JSON 문자열을 weatherData 객체로 변환
-            WeatherData weatherData = objectMapper.readValue(cachedWeatherData, WeatherData.class);
+    public Mono<WeatherData> getWeatherInfo(LonXLatY xy, LocalDateTime now) {
 
-            return weatherData;
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-            throw new GlobalException(ErrorStatus.WEATHER_CACHE_ERROR);
+        String redisKey = cachePolicy.weatherKey(xy, now); // 오늘 날씨 rediskey
+        String yesterdayRedisKey = cachePolicy.weatherTempKey(xy, now.minusDays(1)); // 어제 같은 시각 기온 rediskey
+
+        // 로컬 캐시(L1)에 있으면 Redis를 거치지 않고 반환
+        Optional<WeatherData> localWeatherData = localCacheUtil.getWeather(redisKey);
+        if (localWeatherData.isPresent()) {
+            metricsUtil.countCache("weather", MetricsUtil.HIT_LOCAL);
+            return Mono.just(localWeatherData.get());
         }
 
+        // 오늘/어제 데이터를 한 번의 MGET으로 조회
+        return reactiveRedisUtil.multiGetBytes(List.of(redisKey, yesterdayRedisKey))
+                .flatMap(cached -> resolveWeatherData(xy, redisKey, cached.get(0), cached.get(1), now));
     }
 
     /**
-     * 캐시된 어제의 데이터로 yesterdayTemp를 생성합니다.
-     * @param cachedYesterdayData 캐시된 어제의 날씨 데이터
-     * @return yesterdayTemp
+     * 여러 격자의 날씨 정보를 한 번에 조회합니다.
+     * 같은 격자는 한 번만 조회하며, 로컬 캐시에 없는 격자는 오늘/어제 키를 한 번의 MGET으로 읽고
+     * 캐시에도 없는 격자만 batchConcurrency 만큼씩 api를 호출합니다.
+     * @param cells 묶인 격자 좌표 목록 (GridUtils.pack)
+     * @return 격자별 날씨 Data
      */
-    private Integer getyesterDataFromCache(String cachedYesterdayData) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode jsonNode = objectMapper.readTree(cachedYesterdayData);
-            int yesterdayTemp = jsonNode.get("currentTemp").asInt();  // 어제의 currentTemp = 오늘의 yesterdayTemp
-            return yesterdayTemp;
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new GlobalException(ErrorStatus.WEATHER_CACHE_ERROR);
+    public Mono<Map<Integer, WeatherData>> getWeatherInfoBatch(int[] cells) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, WeatherData> result = new ConcurrentHashMap<>();
+        List<LonXLatY> remaining = new ArrayList<>();
+        Set<Integer> seen = new HashSet<>();
+
+        for (int cell : cells) {
+            if (!seen.add(cell)) {
+                continue; // 같은 격자 중복 제거
+            }
+            LonXLatY xy = new LonXLatY();
+            xy.x = GridUtils.gridX(cell);
+            xy.y = GridUtils.gridY(cell);
+            if (xy.x == 0 && xy.y == 0) {
+                throw new GlobalException(ErrorStatus.LOCATION_BAD_REQUEST);
+            }
+            hotSpotRegistry.recordCell(xy);
+
+            Optional<WeatherData> localWeatherData = localCacheUtil.getWeather(cachePolicy.weatherKey(xy, now));
+            if (localWeatherData.isPresent()) {
+                metricsUtil.countCache("weather", MetricsUtil.HIT_LOCAL);
+                result.put(cell, localWeatherData.get());
+            } else {
+                remaining.add(xy);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return Mono.just(result);
+        }
+
+        // [오늘1, 어제1, 오늘2, 어제2, ...] 순서로 한 번에 조회
+        List<String> keys = new ArrayList<>(remaining.size() * 2);
+        for (LonXLatY xy : remaining) {
+            keys.add(cachePolicy.weatherKey(xy, now));
+            keys.add(cachePolicy.weatherTempKey(xy, now.minusDays(1)));
         }
+
+        return reactiveRedisUtil.multiGetBytes(keys)
+                .flatMapMany(values -> Flux.range(0, remaining.size())
+                        .flatMap(i -> {
+                            LonXLatY xy = remaining.get(i);
+                            return resolveWeatherData(xy, keys.get(i * 2), values.get(i * 2), values.get(i * 2 + 1), now)
+                                    .doOnNext(weatherData -> result.put(GridUtils.pack(xy.x, xy.y), weatherData));
+                        }, batchConcurrency))
+                .then(Mono.fromSupplier(() -> result));
     }
 
     /**
-     * 외부 API에서 오늘 날씨 데이터를 조회하고 Redis에 저장합니다.
-     * @param xy 격좌 좌표
-     * @param redisKey Redis 키
-     * @param baseDate 오늘 날짜
-     * @return weatherData
+     * Redis에서 읽은 오늘/어제 데이터로 날씨 정보를 만듭니다.
+     * 오늘 데이터가 없으면 api를 호출하며, 같은 격자의 동시 요청은 한 번만 호출합니다.
+     * @param xy 격자 좌표
+     * @param redisKey 오늘 날짜 Redis 키
+     * @param cachedWeatherData 캐시된 오늘 데이터
+     * @param cachedYesterdayData 캐시된 어제 같은 시각 기온
+     * @param now 조회 기준 시각
+     * @return 날씨 Data
      */
-    private Mono<WeatherData> fetchWeatherDataFromApi(LonXLatY xy, String redisKey, String baseDate) {
-        String baseTime = getBaseTime(false);
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .scheme("https")
-                        .host("apihub.kma.go.kr")
-                        .path("/api/typ02/openApi/VilageFcstInfoService_2.0/getVilageFcst")
-                        .queryParam("pageNo", 1)
-                        .queryParam("numOfRows", 270)
-                        .queryParam("dataType", "JSON")
-                        .queryParam("base_date", baseDate)
-                        .queryParam("base_time", baseTime)
-                        .queryParam("nx", xy.x)
-                        .queryParam("ny", xy.y)
-                        .queryParam("authKey", WEATHER_API_KEY)
-                        .build())
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, this::handleClientError)
-                .onStatus(HttpStatusCode::is5xxServerError, this::handleServerError)
-                .bodyToMono(String.class)
-                .map(response -> processApiResponse(response, redisKey));
+    private Mono<WeatherData> resolveWeatherData(LonXLatY xy, String redisKey, Optional<byte[]> cachedWeatherData,
+                                                 Optional<byte[]> cachedYesterdayData, LocalDateTime now) {
+        // 형식 버전이 다른 값은 없는 것으로 취급
+        Optional<WeatherData> weatherData = cachedWeatherData.flatMap(WeatherDataCodec::decode);
+        if (weatherData.isPresent()) {
+            // 오늘 캐시된 데이터가 있으면 로컬 캐시에 올리고 반환
+            metricsUtil.countCache("weather", MetricsUtil.HIT_TODAY);
+            cacheLocally(redisKey, weatherData.get(), now);
+            return Mono.just(weatherData.get());
+        }
+
+        // 어제의 currentTemp = 오늘의 yesterdayTemp
+        OptionalInt yesterdayTemp = cachedYesterdayData
+                .map(WeatherDataCodec::decodeTemp)
+                .orElse(OptionalInt.empty());
+        metricsUtil.countCache("weather", yesterdayTemp.isPresent() ? MetricsUtil.HIT_YESTERDAY : MetricsUtil.MISS);
+        // 노드 안에서는 coalescer로, 노드 사이에서는 Redis 임대로 upstream 호출을 키당 한 번으로 제한
+        Mono<WeatherData> refresh = weatherRequests.execute(redisKey, () -> refreshLock.execute(redisKey,
+                () -> kmaCircuitBreaker.protect(
+                        fetchAndSaveWeatherData(xy, redisKey, getBaseDate(now), getYesterDate(now), yesterdayTemp, now)),
+                () -> readWeather(redisKey, now)));
+        return staleWhileRevalidate.serve("weather X" + xy.x + "Y" + xy.y, refresh, () -> readStale(xy), now);
     }
 
     /**
-     * API 응답을 처리하고 강수확률, 최고기온, 최저기온, 현재기온 값을 추출하여 Redis에 캐싱하며, weatherData를 생성합니다.
-     * @param response API 응답 JSON
-     * @param redisKey Redis 키
-     * @return weatherData
+     * 다른 노드가 저장한 날씨 값을 읽습니다.
+     * @param redisKey 오늘 날씨 Redis 키
+     * @param now 조회 기준 시각
+     * @return 날씨 Data, 아직 없으면 empty
      */
-    private WeatherData processApiResponse(String response, String redisKey) {
-        int maxTemp = extractTM(response, "TMX");
-        int minTemp = extractTM(response, "TMN");
-        int rainPer = extractValue(response, "POP", false);
-        int currentTemp = extractValue(response, "TMP", false);
-
-        WeatherData weatherData = WeatherConverter.toWeatherData(maxTemp, minTemp, rainPer, currentTemp);
-        return weatherData;
+    private Mono<WeatherData> readWeather(String redisKey, LocalDateTime now) {
+        return reactiveRedisUtil.getBytes(redisKey)
+                .flatMap(cached -> Mono.justOrEmpty(cached.flatMap(WeatherDataCodec::decode)))
+                .doOnNext(weatherData -> cacheLocally(redisKey, weatherData, now));
     }
 
     /**
-     * API 응답에서 오늘의 강수확률, 현재 기온, 어제의 기온을 추출합니다.
-     * @param response API 응답 JSON
-     * @param category 필요한 데이터 카테고리
-     * @return fcstValue
+     * 격자의 마지막 날씨 값을 stale 표시와 함께 읽습니다.
+     * @param xy 격자 좌표
+     * @return stale 날씨 Data, 없으면 empty
      */
-    private int extractValue(String response, String category, boolean isYesterday) {
-        LocalDateTime now = LocalDateTime.now();
-        String hour = now.format(DateTimeFormatter.ofPattern("HH00"));
-        String date = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // isYesterday가 true이면 어제 날짜로 변경
-        if (isYesterday) {
-            now = now.minusDays(1);
-            date = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        }
-
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode itemsNode = rootNode.path("response").path("body").path("items").path("item");
+    private Mono<WeatherData> readStale(LonXLatY xy) {
+        return reactiveRedisUtil.getBytes(cachePolicy.weatherStaleKey(xy))
+                .flatMap(cached -> Mono.justOrEmpty(cached.flatMap(WeatherDataCodec::decode)))
+                .doOnNext(weatherData -> {
+                    weatherData.setStale(true);
+                    metricsUtil.countCache("weather", MetricsUtil.HIT_STALE);
+                });
+    }
 
-            for (JsonNode item : itemsNode) {
-                if (category.equals(item.path("category").asText()) &&
-                        date.equals(item.path("fcstDate").asText()) &&
-                        hour.equals(item.path("fcstTime").asText())) {
+    /**
+     * 오늘 날씨와 어제 기온을 조회해 병합한 뒤 Redis와 로컬 캐시에 저장합니다.
+     * @param xy 격자 좌표
+     * @param redisKey 오늘 날짜 Redis 키
+     * @param baseDate 오늘 날짜
+     * @param yesterDate 어제 날짜
+     * @param cachedYesterdayTemp 캐시된 어제 기온
+     * @param now 조회 기준 시각
+     * @return weatherData
+     */
+    private Mono<WeatherData> fetchAndSaveWeatherData(LonXLatY xy, String redisKey, String baseDate, String yesterDate,
+                                                      OptionalInt cachedYesterdayTemp, LocalDateTime now) {
+        Mono<Integer> yesterdayTempMono = cachedYesterdayTemp.isPresent()
+                // 어제 캐시된 데이터가 있으면 해당 데이터의 currentTemp를 yesterdayTemp로 사용
+                ? Mono.just(cachedYesterdayTemp.getAsInt())
+                // 없으면 api 호출
+                : fetchYesterDataFromApi(xy, yesterDate, now);
+        Mono<WeatherData> weatherDataMono = fetchWeatherDataFromApi(xy, baseDate, now);
+        // 두 비동기 요청을 병렬로 실행하여 결과 병합 및 Redis에 저장
+        return yesterdayTempMono.zipWith(weatherDataMono, (yesterdayTemp, weatherData) -> {
+            weatherData.setYesterdayTemp(yesterdayTemp); // `yesterdayTemp`를 `weatherData`에 설정
+            return weatherData;
+        }).flatMap(weatherData ->
+                // 완성된 `weatherData`를 Redis에 저장
+                saveWeatherDataToRedis(xy, redisKey, weatherData, now)
+                        .thenReturn(weatherData))
+                .doOnNext(weatherData -> cacheLocally(redisKey, weatherData, now));
+    }
 
-                    JsonNode fcstValueNode = item.path("fcstValue");
-                    if (fcstValueNode.isMissingNode()) {
-                        return 0;
-                    }
-                    return fcstValueNode.asInt();
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new GlobalException(ErrorStatus.WEATHER_DATA_NOT_FOUND);
+    /**
+     * 현재 시간대의 데이터만 로컬 캐시에 올립니다.
+     * 로컬 캐시는 다음 정각에 만료되므로, 미리 채우는 다음 시간대 데이터는 Redis에만 둡니다.
+     * @param redisKey Redis 키
+     * @param weatherData 날씨 Data
+     * @param now 조회 기준 시각
+     */
+    private void cacheLocally(String redisKey, WeatherData weatherData, LocalDateTime now) {
+        if (cachePolicy.isCurrentHour(now)) {
+            localCacheUtil.putWeather(redisKey, weatherData);
         }
-        return 0;
     }
 
     /**
-     * 오늘의 최고기온 또는 최저기온을 추출합니다.
-     * @param response
-     * @param category
-     * @return fcstValue
+     * 오늘 날씨 데이터를 하루치 예보(ForecastSeries)에서 만듭니다.
+     * 같은 격자, 발표시각의 예보가 Redis에 있으면 upstream을 호출하지 않고, 없으면 한 번 받아 저장합니다.
+     * @param xy 격좌 좌표
+     * @param baseDate 오늘 날짜
+     * @param now 조회 기준 시각
+     * @return weatherData
      */
-    private int extractTM(String response, String category) {
-        LocalDateTime now = LocalDateTime.now();
-        String date = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(response);
-            JsonNode itemsNode = rootNode.path("response").path("body").path("items").path("item");
+    private Mono<WeatherData> fetchWeatherDataFromApi(LonXLatY xy, String baseDate, LocalDateTime now) {
+        String baseTime = getBaseTime(false, now);
+        String seriesKey = cachePolicy.weatherSeriesKey(xy, baseDate, baseTime);
+        int hour = now.getHour();
 
-            for (JsonNode item : itemsNode) {
-                if (category.equals(item.path("category").asText()) &&
-                        date.equals(item.path("fcstDate").asText())){
+        return reactiveRedisUtil.getBytes(seriesKey)
+                .flatMap(cached -> cached
+                        .flatMap(ForecastSeriesCodec::decode)
+                        .filter(series -> series.covers(hour))
+                        .map(series -> {
+                            metricsUtil.countCache("forecast-series", MetricsUtil.HIT_TODAY);
+                            return Mono.just(series);
+                        })
+                        .orElseGet(() -> {
+                            metricsUtil.countCache("forecast-series", MetricsUtil.MISS);
+                            // 같은 격자, 발표시각의 예보는 한 번만 조회
+                            return seriesRequests.execute(seriesKey, () -> fetchSeriesFromApi(xy, baseDate, baseTime, seriesKey, now));
+                        }))
+                .map(series -> {
+                    ForecastData forecast = series.at(hour);
+                    return WeatherConverter.toWeatherData(forecast.maxTemp, forecast.minTemp, forecast.rainPer, forecast.currentTemp);
+                });
+    }
 
-                    JsonNode fcstValueNode = item.path("fcstValue");
-                    if (fcstValueNode.isMissingNode()) {
-                        return 0;
+    /**
+     * 외부 API에서 하루치 예보를 조회해 Redis에 저장합니다.
+     * 필요한 범위를 먼저 조회하고, 해당 시각의 값을 다 찾지 못하면 전체 범위로 다시 조회합니다.
+     * @param xy 격좌 좌표
+     * @param baseDate 발표일자
+     * @param baseTime 발표시각
+     * @param seriesKey 하루치 예보 Redis 키
+     * @param now 조회 기준 시각
+     * @return 하루치 예보
+     */
+    private Mono<ForecastSeries> fetchSeriesFromApi(LonXLatY xy, String baseDate, String baseTime, String seriesKey, LocalDateTime now) {
+        int hour = now.getHour();
+        String fcstDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        // 02시 이전에는 전날 2300 발표를 02시까지만, 이후에는 0200 발표를 23시까지 사용
+        LocalDateTime lastHour = now.truncatedTo(ChronoUnit.DAYS).plusHours(hour <= 2 ? 2 : 23);
+        ForecastFetchPlanner.Window window = forecastFetchPlanner.seriesWindow(baseDate, baseTime, lastHour);
+
+        return requestForecast(xy, baseDate, baseTime, window)
+                .map(response -> parseSeries(response, fcstDate))
+                .flatMap(series -> {
+                    if (series.covers(hour)) {
+                        return Mono.just(series);
                     }
-                    return fcstValueNode.asInt();
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            throw new GlobalException(ErrorStatus.WEATHER_DATA_NOT_FOUND);
-        }
-        return 0;
+                    log.warn("Forecast window {} missed rows for {}h, fetching full range", window, hour);
+                    return requestForecast(xy, baseDate, baseTime, ForecastFetchPlanner.FULL_FORECAST)
+                            .map(response -> parseSeries(response, fcstDate));
+                })
+                .flatMap(series -> reactiveRedisUtil.setBytes(seriesKey, ForecastSeriesCodec.encode(series), cachePolicy.weatherSeriesTtl(lastHour))
+                        .thenReturn(series));
     }
 
     /**
      * 어제 기온 api 조회
+     * 어제 같은 시각의 기온 한 행만 조회하고, 찾지 못하면 전체 범위로 다시 조회합니다.
      * @param xy 격자좌표
      * @param yesterDate 어제 날짜
+     * @param now 조회 기준 시각
      * @return 어제 기온 데이터
      */
+    private Mono<Integer> fetchYesterDataFromApi(LonXLatY xy, String yesterDate, LocalDateTime now) {
+        String baseTime = getBaseTime(true, now);
+        LocalDateTime yesterday = now.minusDays(1);
+        ForecastFetchPlanner.Window window = forecastFetchPlanner.temperatureWindow(yesterDate, baseTime, yesterday);
+        return requestForecast(xy, yesterDate, baseTime, window)
+                .map(response -> parseForecast(response, yesterday))
+                .flatMap(forecast -> {
+                    if (forecast.has(ForecastData.CURRENT_TEMP)) {
+                        return Mono.just(forecast);
+                    }
+                    log.warn("Temperature window {} missed rows, fetching full range", window);
+                    return requestForecast(xy, yesterDate, baseTime, ForecastFetchPlanner.FULL_TEMPERATURE)
+                            .map(response -> parseForecast(response, yesterday));
+                })
+                .map(forecast -> forecast.currentTemp);
+    }
 
-    private Mono<Integer> fetchYesterDataFromApi(LonXLatY xy, String yesterDate) {
-        String baseTime = getBaseTime(true);
-        return webClient.get()
+    /**
+     * 단기예보 api를 지정한 범위로 호출합니다.
+     * @param xy 격자좌표
+     * @param baseDate 발표일자
+     * @param baseTime 발표시각
+     * @param window 조회할 pageNo, numOfRows
+     * @return API 응답 버퍼
+     */
+    private Mono<DataBuffer> requestForecast(LonXLatY xy, String baseDate, String baseTime, ForecastFetchPlanner.Window window) {
+        return kmaWebClient.get()
                 .uri(uriBuilder -> uriBuilder
-                        .scheme("https")
-                        .host("apihub.kma.go.kr")
                         .path("/api/typ02/openApi/VilageFcstInfoService_2.0/getVilageFcst")
-                        .queryParam("pageNo", 1)
-                        .queryParam("numOfRows", 40)
+                        .queryParam("pageNo", window.pageNo())
+                        .queryParam("numOfRows", window.numOfRows())
                         .queryParam("dataType", "JSON")
-                        .queryParam("base_date", yesterDate)
+                        .queryParam("base_date", baseDate)
                         .queryParam("base_time", baseTime)
                         .queryParam("nx", xy.x)
                         .queryParam("ny", xy.y)
@@ -261,9 +400,27 @@ public class WeatherApiService {
                 .retrieve()
                 .onStatus(HttpStatusCode::is4xxClientError, this::handleClientError)
                 .onStatus(HttpStatusCode::is5xxServerError, this::handleServerError)
-                .bodyToMono(String.class)
-                .map(response -> extractValue(response, "TMP", true));
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferUtils::join)
+                .publishOn(blockingScheduler) // 파싱은 blockingScheduler에서 실행
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * API 응답을 한 번만 읽어 예보 시각의 강수확률, 최고기온, 최저기온, 기온 값을 추출합니다.
+     * @param response API 응답 버퍼
+     * @param target 예보 시각
+     * @return 찾은 예보 값
+     */
+    private ForecastData parseForecast(DataBuffer response, LocalDateTime target) {
+        String date = target.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String hour = target.format(DateTimeFormatter.ofPattern("HH00"));
+
+        return metricsUtil.recordParse("vilage-fcst", () -> forecastParser.parse(response, date, hour));
+    }
 
+    private ForecastSeries parseSeries(DataBuffer response, String fcstDate) {
+        return metricsUtil.recordParse("vilage-fcst-series", () -> forecastParser.parseSeries(response, fcstDate));
     }
 
     /**
@@ -293,10 +450,10 @@ public class WeatherApiService {
      * 현재시각이 02시 전이면 2300를 리턴
      * 02시 이후면 오늘 날씨를 조회하는 api는 0200를, 어제 날씨를 조회하는 api는 가까운 3시간 단위의 baseTime으로 설정한다.
      * @param isYesterday 어제 날씨를 조회하는지 확인
+     * @param now 조회 기준 시각
      * @return baseTime
      */
-    private String getBaseTime(boolean isYesterday) {
-        LocalDateTime now = LocalDateTime.now();
+    private String getBaseTime(boolean isYesterday, LocalDateTime now) {
         int hour = now.getHour();
 
         if (hour >= 0 && hour <= 2) {
@@ -314,11 +471,10 @@ public class WeatherApiService {
     /**
      * url 경로에 지정할 baseDate를 설정합니다.
      * 현재 시각이 02시 이전이면 어제 날짜로 지정함.
+     * @param now 조회 기준 시각
      * @return baseDate
      */
-    private String getBaseDate() {
-        LocalDateTime now = LocalDateTime.now();
-
+    private String getBaseDate(LocalDateTime now) {
         if (now.getHour() >= 0 && now.getHour() <= 2) {
             return now.minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         }
@@ -329,11 +485,10 @@ public class WeatherApiService {
     /**
      * 어제 날씨 조회 api의 url에 지정할 baseDate를 설정합니다.
      * 현재 시각이 02시 이전이면 이틀 전 날짜로 지정함
+     * @param now 조회 기준 시각
      * @return yesterDate
      */
-    private String getYesterDate(){
-        LocalDateTime now = LocalDateTime.now();
-
+    private String getYesterDate(LocalDateTime now){
         if (now.getHour() >= 0 && now.getHour() <= 2) {
             return now.minusDays(2).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         }
@@ -342,41 +497,23 @@ public class WeatherApiService {
     }
 
     /**
-     * 격자좌표 x,y를 받아 RedisKey를 생성합니다.
-     * mode가 1이면 어제 날짜의 RedisKey를 생성, 0이면 오늘 날짜로 생성합니다.
-     * @param mode
-     * @param xy
-     * @return redisKey
-     */
-    private String generateRedisKey(int mode, LonXLatY xy) {
-        String timeKey = "";
-        // 모드에 따라 날짜 설정
-        if (mode == 1) {
-            timeKey = LocalDateTime.now().minusDays(1).format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH"));
-        } else {
-            timeKey = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH"));
-        }
-
-        return "weatherInfo:" + "X" + xy.x + "Y" + xy.y + ":" + timeKey;
-    }
-
-    /**
-     * weatherData 객체를 Redis에 하루동안 저장합니다.
-     * @param redisKey
-     * @param weatherData
-     * @param duration
+     * weatherData 객체를 바이너리 형식(WeatherDataCodec)으로 Redis에 저장합니다.
+     * 전체 값은 해당 시간대가 끝나면 만료되고, 내일 "어제 기온"으로 읽을 기온만 하루 더 보관합니다.
+     * upstream 장애 시 대신 반환할 마지막 값(stale)도 함께 갱신하며, 세 키는 한 번의 스크립트 호출로 저장합니다.
+     * @param xy 격자 좌표
+     * @param redisKey 오늘 날씨 Redis 키
+     * @param weatherData 날씨 Data
+     * @param now 조회 기준 시각
      */
-    private void saveWeatherDataToRedis(String redisKey, WeatherData weatherData, Duration duration) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            String weatherDataJson = objectMapper.writeValueAsString(weatherData);
-            redisUtil.setValues(redisKey, weatherDataJson, duration);
-            log.info("Saving weather data to Redis with key: {}", redisKey);
-
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
-            throw new GlobalException(ErrorStatus.WEATHER_CACHE_ERROR);
-        }
+    private Mono<Void> saveWeatherDataToRedis(LonXLatY xy, String redisKey, WeatherData weatherData, LocalDateTime now) {
+        log.info("Saving weather data to Redis with key: {}", redisKey);
+        byte[] encoded = WeatherDataCodec.encode(weatherData);
+        return reactiveRedisUtil.setAllBytes(List.of(
+                        new ReactiveRedisUtil.BytesEntry(redisKey, encoded, cachePolicy.weatherTtl(now)),
+                        new ReactiveRedisUtil.BytesEntry(cachePolicy.weatherStaleKey(xy), encoded, cachePolicy.staleTtl()),
+                        new ReactiveRedisUtil.BytesEntry(cachePolicy.weatherTempKey(xy, now),
+                                WeatherDataCodec.encodeTemp(weatherData.getCurrentTemp()), cachePolicy.weatherTempTtl(now))))
+                .then();
     }
 
 }
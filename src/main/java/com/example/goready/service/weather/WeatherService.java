@@ -1,38 +1,99 @@
 package com.example.goready.service.weather;
 
 import com.example.goready.converter.WeatherConverter;
+import com.example.goready.dto.LonXLatY;
+import com.example.goready.dto.WeatherData;
+import com.example.goready.dto.WeatherRequest;
 import com.example.goready.dto.WeatherResponse;
+import com.example.goready.global.exception.GlobalException;
+import com.example.goready.global.response.status.ErrorStatus;
 import com.example.goready.utils.AddressUtil;
+import com.example.goready.utils.GridUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class WeatherService {
 
     private final WeatherApiService weatherApiService;
     private final AddressUtil addressUtil;
+    private final GridUtils gridUtils;
+
+    @Value("${weather.batch.max-size:500}")
+    private int batchMaxSize;
 
     public Mono<WeatherResponse.WeatherDto> getWeather(double lon, double lat) {
         return weatherApiService.getWeatherInfo(lon, lat)
-                .map(weatherData -> {
-                    // 2. 우산 여부 판단: 강수 확률이 50 이상일 때 true
-                    boolean isUmbrella = weatherData.getRainPer() >= 50;
-
-                    // 3. 현재 온도와 어제 온도를 비교하여 상태 결정
-                    String status;
-                    int diffTemp = weatherData.getCurrentTemp() - weatherData.getYesterdayTemp();
-                    if (diffTemp > 0) {
-                        status = "hot";
-                    } else if (diffTemp < 0) {
-                        status = "cold";
-                    } else {
-                        status = "same";
-                    }
+                .map(this::toWeatherDto);
+    }
+
+    /**
+     * 이미 변환한 격자 좌표로 날씨를 조회합니다.
+     * @param xy 격자 좌표
+     * @return WeatherDto
+     */
+    public Mono<WeatherResponse.WeatherDto> getWeather(LonXLatY xy) {
+        return weatherApiService.getWeatherInfo(xy)
+                .map(this::toWeatherDto);
+    }
+
+    public LonXLatY toGrid(double lon, double lat) {
+        return weatherApiService.toGrid(lon, lat);
+    }
 
-                    // WeatherDto로 변환하여 반환
-                    return WeatherConverter.toWeatherDto(weatherData, status, diffTemp, isUmbrella);
+    /**
+     * 여러 위치의 날씨를 한 번에 조회합니다. 결과는 요청한 위치 순서와 같습니다.
+     * @param points 위치 목록
+     * @return 위치별 WeatherDto
+     */
+    public Mono<List<WeatherResponse.WeatherDto>> getWeatherBatch(List<WeatherRequest.PointDto> points) {
+        if (points == null || points.isEmpty()) {
+            throw new GlobalException(ErrorStatus.LOCATION_BAD_REQUEST);
+        }
+        if (points.size() > batchMaxSize) {
+            throw new GlobalException(ErrorStatus.BATCH_SIZE_EXCEEDED);
+        }
+
+        double[] lons = new double[points.size()];
+        double[] lats = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            lons[i] = points.get(i).getLon();
+            lats[i] = points.get(i).getLat();
+        }
+        int[] cells = gridUtils.toGrid(lons, lats);
+
+        return weatherApiService.getWeatherInfoBatch(cells)
+                .map(weatherByCell -> {
+                    List<WeatherResponse.WeatherDto> weatherDtos = new ArrayList<>(cells.length);
+                    for (int cell : cells) {
+                        weatherDtos.add(toWeatherDto(weatherByCell.get(cell)));
+                    }
+                    return weatherDtos;
                 });
     }
-}
\ No newline at end of file
+
+    private WeatherResponse.WeatherDto toWeatherDto(WeatherData weatherData) {
+        // 2. 우산 여부 판단: 강수 확률이 50 이상일 때 true
+        boolean isUmbrella = weatherData.getRainPer() >= 50;
+
+        // 3. 현재 온도와 어제 온도를 비교하여 상태 결정
+        String status;
+        int diffTemp = weatherData.getCurrentTemp() - weatherData.getYesterdayTemp();
+        if (diffTemp > 0) {
+            status = "hot";
+        } else if (diffTemp < 0) {
+            status = "cold";
+        } else {
+            status = "same";
+        }
+
+        // WeatherDto로 변환하여 반환
+        return WeatherConverter.toWeatherDto(weatherData, status, diffTemp, isUmbrella);
+    }
+}
@@ -3,6 +3,8 @@ package com.example.goready.utils;
 import com.example.goready.dto.Address;
 import com.example.goready.global.exception.GlobalException;
 import com.example.goready.global.response.status.ErrorStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,8 +14,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -23,9 +27,47 @@ public class AddressUtil {
     @Value("${kakao.rest-api-key}")
     private String API_KEY;
 
+    // 위경도를 양자화한 셀 단위로 주소를 캐싱 (1000이면 0.001도, 약 100m)
+    @Value("${address.cache.precision:1000}")
+    private int cachePrecision;
+
     private final WebClient kakaoWebClient;
+    private final RegionIndex regionIndex;
+    private final MetricsUtil metricsUtil;
+
+    private final Cache<Long, Address> addressCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofDays(7))
+            .build();
 
+    /**
+     * 위경도로 주소를 조회합니다.
+     * 캐시, 오프라인 행정구역 인덱스 순으로 찾고, 없을 때만 카카오 API를 호출합니다.
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 주소 정보
+     */
     public Mono<Address> getAddress(double latitude, double longitude) {
+        long cacheKey = RegionIndex.quantize(latitude, longitude, cachePrecision);
+        Address cachedAddress = addressCache.getIfPresent(cacheKey);
+        if (cachedAddress != null) {
+            metricsUtil.countCache("address", MetricsUtil.HIT_LOCAL);
+            return Mono.just(cachedAddress);
+        }
+
+        Optional<Address> indexedAddress = regionIndex.find(latitude, longitude);
+        if (indexedAddress.isPresent()) {
+            metricsUtil.countCache("address", MetricsUtil.HIT_INDEX);
+            addressCache.put(cacheKey, indexedAddress.get());
+            return Mono.just(indexedAddress.get());
+        }
+
+        metricsUtil.countCache("address", MetricsUtil.MISS);
+        return fetchAddressFromKakao(latitude, longitude)
+                .doOnNext(address -> addressCache.put(cacheKey, address));
+    }
+
+    private Mono<Address> fetchAddressFromKakao(double latitude, double longitude) {
         String uri = String.format("/v2/local/geo/coord2address.json?x=%f&y=%f", longitude, latitude);
 
         return kakaoWebClient.get()
@@ -0,0 +1,138 @@
+package com.example.goready.utils;
+
+import com.example.goready.global.exception.GlobalException;
+import com.example.goready.global.response.status.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * upstream 하나에 대한 간단한 서킷 브레이커입니다.
+ * 실패(5xx, 타임아웃, 느린 응답)가 연속으로 failureThreshold번 나면 openDuration 동안 호출을 막고(OPEN),
+ * 그 뒤 한 번만 시험 호출(HALF_OPEN)해 성공하면 다시 닫습니다(CLOSED).
+ * 4xx 응답은 요청 문제이므로 실패로 세지 않고, 시험 호출이었다면 upstream이 응답한 것이므로 서킷을 닫습니다.
+ * 단, 호출 한도 초과(RateLimiter.QuotaExceededException)는 upstream에 닿지 않은 것이므로 시험 호출이었다면 다시 엽니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final long slowCallNanos;
+
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, Duration slowCallThreshold) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.slowCallNanos = slowCallThreshold.toNanos();
+    }
+
+    /**
+     * 서킷이 열려 있으면 호출하지 않고 UPSTREAM_UNAVAILABLE로 바로 실패합니다.
+     * @param call upstream 호출
+     * @return 결과가 기록되는 호출
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new GlobalException(ErrorStatus.UPSTREAM_UNAVAILABLE));
+            }
+            long start = System.nanoTime();
+            return call
+                    .doOnSuccess(value -> onSuccess(System.nanoTime() - start))
+                    .doOnError(e -> {
+                        if (e instanceof RateLimiter.QuotaExceededException) {
+                            onQuotaExceeded();
+                        } else if (isClientError(e)) {
+                            onClientError();
+                        } else {
+                            onFailure();
+                        }
+                    })
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (System.nanoTime() - openedAt >= openDurationNanos) {
+                    state = State.HALF_OPEN; // 시험 호출 한 번 허용
+                    return true;
+                }
+                return false;
+            default:
+                return false; // 시험 호출 진행 중
+        }
+    }
+
+    private synchronized void onSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallNanos) {
+            onFailure();
+            return;
+        }
+        close();
+    }
+
+    private synchronized void onClientError() {
+        if (state == State.HALF_OPEN) {
+            close();
+        }
+    }
+
+    private synchronized void onQuotaExceeded() {
+        // 호출 한도 때문에 보내지 못한 시험 호출은 결과를 모르므로 다시 기다립니다.
+        if (state == State.HALF_OPEN) {
+            open();
+        }
+    }
+
+    private synchronized void onFailure() {
+        if (state == State.HALF_OPEN || ++failures >= failureThreshold) {
+            open();
+        }
+    }
+
+    private synchronized void onCancel() {
+        // 결과를 모르는 시험 호출은 실패로 보고 다시 기다립니다.
+        if (state == State.HALF_OPEN) {
+            open();
+        }
+    }
+
+    private void close() {
+        if (state != State.CLOSED) {
+            log.info("Circuit {} closed", name);
+        }
+        state = State.CLOSED;
+        failures = 0;
+    }
+
+    private void open() {
+        if (state != State.OPEN) {
+            log.warn("Circuit {} opened", name);
+        }
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        failures = 0;
+    }
+
+    private boolean isClientError(Throwable e) {
+        return e instanceof GlobalException globalException
+                && globalException.getErrorStatus().getHttpStatus().is4xxClientError();
+    }
+}
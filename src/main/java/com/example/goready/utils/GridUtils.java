@@ -5,54 +5,140 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * 기상청 동네예보(DFS) 격자의 LCC(Lambert Conformal Conic) 좌표 변환입니다.
+ * 투영 상수는 클래스 로딩 시 한 번만 계산합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GridUtils {
 
-    public LonXLatY convertGRID_GPS(double lon_X, double lat_Y) {
-        double RE = 6371.00877; // 지구 반경(km)
-        double GRID = 5.0; // 격자 간격(km)
-        double SLAT1 = 30.0; // 투영 위도1(degree)
-        double SLAT2 = 60.0; // 투영 위도2(degree)
-        double OLON = 126.0; // 기준점 경도(degree)
-        double OLAT = 38.0; // 기준점 위도(degree)
-        double XO = 43; // 기준점 X좌표(GRID)
-        double YO = 136; // 기준점 Y좌표(GRID)
-
-        // LCC DFS 좌표변환 ( code : "TO_GRID"(위경도->좌표, lat_X:위도, lon_Y:경도),
-        // "TO_GPS"(좌표->위경도, lat_X:x, lon_Y:y) )
-
-        double DEGRAD = Math.PI / 180.0;
-        double RADDEG = 180.0 / Math.PI;
-
-        double re = RE / GRID;
+    private static final double RE = 6371.00877; // 지구 반경(km)
+    private static final double GRID = 5.0; // 격자 간격(km)
+    private static final double SLAT1 = 30.0; // 투영 위도1(degree)
+    private static final double SLAT2 = 60.0; // 투영 위도2(degree)
+    private static final double OLON = 126.0; // 기준점 경도(degree)
+    private static final double OLAT = 38.0; // 기준점 위도(degree)
+    private static final double XO = 43; // 기준점 X좌표(GRID)
+    private static final double YO = 136; // 기준점 Y좌표(GRID)
+
+    private static final double DEGRAD = Math.PI / 180.0;
+    private static final double RADDEG = 180.0 / Math.PI;
+
+    private static final double re = RE / GRID;
+    private static final double olon = OLON * DEGRAD;
+    private static final double sn;
+    private static final double sf;
+    private static final double ro;
+
+    static {
         double slat1 = SLAT1 * DEGRAD;
         double slat2 = SLAT2 * DEGRAD;
-        double olon = OLON * DEGRAD;
         double olat = OLAT * DEGRAD;
 
-        double sn = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
-        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(sn);
-        double sf = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
-        sf = Math.pow(sf, sn) * Math.cos(slat1) / sn;
-        double ro = Math.tan(Math.PI * 0.25 + olat * 0.5);
-        ro = re * sf / Math.pow(ro, sn);
+        double snTan = Math.tan(Math.PI * 0.25 + slat2 * 0.5) / Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sn = Math.log(Math.cos(slat1) / Math.cos(slat2)) / Math.log(snTan);
+        double sfTan = Math.tan(Math.PI * 0.25 + slat1 * 0.5);
+        sf = Math.pow(sfTan, sn) * Math.cos(slat1) / sn;
+        double roTan = Math.tan(Math.PI * 0.25 + olat * 0.5);
+        ro = re * sf / Math.pow(roTan, sn);
+    }
+
+    /**
+     * 위경도를 격자 좌표로 변환합니다.
+     * @param lon_X 경도
+     * @param lat_Y 위도
+     * @return 격자 좌표
+     */
+    public LonXLatY convertGRID_GPS(double lon_X, double lat_Y) {
+        int packed = toGrid(lon_X, lat_Y);
         LonXLatY rs = new LonXLatY();
+        rs.x = gridX(packed);
+        rs.y = gridY(packed);
+        return rs;
+    }
 
-        double ra = Math.tan(Math.PI * 0.25 + (lat_Y) * DEGRAD * 0.5);
+    /**
+     * 위경도를 격자 좌표로 변환해 하나의 int로 묶어 반환합니다. 객체를 생성하지 않습니다.
+     * 상위 16비트는 x, 하위 16비트는 y이며 gridX, gridY로 꺼냅니다.
+     * @param lon 경도
+     * @param lat 위도
+     * @return 묶인 격자 좌표
+     */
+    public int toGrid(double lon, double lat) {
+        double ra = Math.tan(Math.PI * 0.25 + lat * DEGRAD * 0.5);
         ra = re * sf / Math.pow(ra, sn);
-        double theta = lon_X * DEGRAD - olon;
+        double theta = lon * DEGRAD - olon;
         if (theta > Math.PI)
             theta -= 2.0 * Math.PI;
         if (theta < -Math.PI)
             theta += 2.0 * Math.PI;
         theta *= sn;
-        rs.x = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
-        rs.y = (int) Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
+        int x = (int) Math.floor(ra * Math.sin(theta) + XO + 0.5);
+        int y = (int) Math.floor(ro - ra * Math.cos(theta) + YO + 0.5);
+        return pack(x, y);
+    }
 
-        return rs;
+    /**
+     * 여러 위경도를 한 번에 격자 좌표로 변환합니다.
+     * @param lons 경도 배열
+     * @param lats 위도 배열
+     * @param out 묶인 격자 좌표를 담을 배열 (lons와 같은 길이 이상)
+     */
+    public void toGrid(double[] lons, double[] lats, int[] out) {
+        if (lons.length != lats.length || out.length < lons.length) {
+            throw new IllegalArgumentException("lons, lats and out must have matching lengths");
+        }
+        for (int i = 0; i < lons.length; i++) {
+            out[i] = toGrid(lons[i], lats[i]);
+        }
     }
 
-}
+    public int[] toGrid(double[] lons, double[] lats) {
+        int[] out = new int[lons.length];
+        toGrid(lons, lats, out);
+        return out;
+    }
+
+    /**
+     * 격자 좌표를 격자 중심점의 위경도로 변환합니다.
+     * @param x 격자 x
+     * @param y 격자 y
+     * @return {경도, 위도}
+     */
+    public double[] toGps(int x, int y) {
+        double xn = x - XO;
+        double yn = ro - y + YO;
+        double ra = Math.sqrt(xn * xn + yn * yn);
+        if (sn < 0.0)
+            ra = -ra;
+        double alat = Math.pow((re * sf / ra), (1.0 / sn));
+        alat = 2.0 * Math.atan(alat) - Math.PI * 0.5;
 
+        double theta;
+        if (Math.abs(xn) <= 0.0) {
+            theta = 0.0;
+        } else if (Math.abs(yn) <= 0.0) {
+            theta = Math.PI * 0.5;
+            if (xn < 0.0)
+                theta = -theta;
+        } else {
+            theta = Math.atan2(xn, yn);
+        }
+        double alon = theta / sn + olon;
+        return new double[]{alon * RADDEG, alat * RADDEG};
+    }
+
+    public static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    public static int gridX(int packed) {
+        return packed >> 16;
+    }
+
+    public static int gridY(int packed) {
+        return (short) packed;
+    }
+}
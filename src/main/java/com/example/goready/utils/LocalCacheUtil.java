@@ -0,0 +1,98 @@
+package com.example.goready.utils;
+
+import com.example.goready.dto.WeatherData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Redis 앞단의 프로세스 내 캐시(L1)입니다.
+ * 날씨/미세먼지 값은 매시 정각에 바뀌므로 모든 항목은 다음 정각에 만료됩니다.
+ */
+@Slf4j
+@Component
+public class LocalCacheUtil {
+
+    private final Cache<String, WeatherData> weatherCache;
+    private final Cache<String, Integer> pm10Cache;
+
+    public LocalCacheUtil(@Value("${cache.local.weather-max-size:10000}") long weatherMaxSize,
+                          @Value("${cache.local.pm10-max-size:1000}") long pm10MaxSize,
+                          MeterRegistry meterRegistry) {
+        this.weatherCache = buildHourlyCache(weatherMaxSize);
+        this.pm10Cache = buildHourlyCache(pm10MaxSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, weatherCache, "weatherLocal");
+        CaffeineCacheMetrics.monitor(meterRegistry, pm10Cache, "pm10Local");
+    }
+
+    public Optional<WeatherData> getWeather(String key) {
+        return Optional.ofNullable(weatherCache.getIfPresent(key));
+    }
+
+    public void putWeather(String key, WeatherData weatherData) {
+        weatherCache.put(key, weatherData);
+    }
+
+    public Optional<Integer> getPm10(String key) {
+        return Optional.ofNullable(pm10Cache.getIfPresent(key));
+    }
+
+    public void putPm10(String key, int pm10Value) {
+        pm10Cache.put(key, pm10Value);
+    }
+
+    public CacheStats weatherStats() {
+        return weatherCache.stats();
+    }
+
+    public CacheStats pm10Stats() {
+        return pm10Cache.stats();
+    }
+
+    private static <V> Cache<String, V> buildHourlyCache(long maximumSize) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(LocalCacheUtil.<V>untilNextHour())
+                .recordStats() // hit/miss 카운터
+                .build();
+    }
+
+    /**
+     * 생성/갱신 시점과 상관없이 다음 정각에 만료시키는 정책입니다.
+     */
+    private static <V> Expiry<String, V> untilNextHour() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, V value, long currentTime) {
+                return nanosUntilNextHour();
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+                return nanosUntilNextHour();
+            }
+
+            @Override
+            public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static long nanosUntilNextHour() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime nextHour = now.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        return Duration.between(now, nextHour).toNanos();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.goready.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 호출, 캐시 조회 결과, 응답 파싱 시간을 Micrometer 지표로 기록합니다.
+ * /actuator/prometheus 로 수집할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricsUtil {
+
+    public static final String HIT_LOCAL = "hit-local";
+    public static final String HIT_TODAY = "hit-today";
+    public static final String HIT_YESTERDAY = "hit-yesterday";
+    public static final String HIT_STALE = "hit-stale";
+    public static final String HIT_INDEX = "hit-index";
+    public static final String MISS = "miss";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * WebClient에 등록해 upstream별 응답 시간을 상태 코드 구간(2xx, 4xx, 5xx)이나 오류 종류로 기록합니다.
+     * @param upstream upstream 이름 (kma, airkorea, kakao)
+     * @return ExchangeFilterFunction
+     */
+    public ExchangeFilterFunction upstreamFilter(String upstream) {
+        return (request, next) -> {
+            long start = System.nanoTime();
+            return next.exchange(request)
+                    .doOnSuccess(response -> recordUpstream(upstream, statusClass(response.statusCode()), start))
+                    .doOnError(e -> recordUpstream(upstream, isTimeout(e) ? "timeout" : "error", start));
+        };
+    }
+
+    /**
+     * 캐시 조회 결과를 셉니다.
+     * @param cache 캐시 이름 (weather, mask, address)
+     * @param outcome 조회 결과 (hit-local, hit-today, hit-yesterday, hit-index, miss)
+     */
+    public void countCache(String cache, String outcome) {
+        Counter.builder("goready.cache.lookups")
+                .description("Cache lookups by tier outcome")
+                .tag("cache", cache)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 응답 파싱 시간을 기록합니다.
+     * @param parser 파서 이름 (vilage-fcst, air-korea)
+     * @param parse 파싱 작업
+     * @return 파싱 결과
+     */
+    public <T> T recordParse(String parser, Supplier<T> parse) {
+        return Timer.builder("goready.parse")
+                .description("Upstream response parse time")
+                .tag("parser", parser)
+                .register(meterRegistry)
+                .record(parse);
+    }
+
+    private void recordUpstream(String upstream, String status, long start) {
+        Timer.builder("goready.upstream.requests")
+                .description("Upstream API latency")
+                .tag("upstream", upstream)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private String statusClass(HttpStatusCode statusCode) {
+        return statusCode.value() / 100 + "xx";
+    }
+
+    // WebClient는 전송 오류(ReadTimeoutException 등)를 WebClientRequestException으로 감싸므로 원인까지 확인
+    private boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.goready.utils;
+
+import com.example.goready.global.exception.GlobalException;
+import com.example.goready.global.response.status.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * upstream API 키 하나에 대한 초당 호출 수(token bucket)와 일일 호출 수를 Redis에서 함께 관리합니다.
+ * 모든 노드가 같은 버킷과 카운터를 쓰므로 노드 수와 관계없이 한도가 지켜집니다.
+ * 사전 캐싱 같은 백그라운드 호출(Reactor Context의 BACKGROUND)은 예약분을 남기고 멈춰 사용자 요청이 먼저 한도를 씁니다.
+ * 한도를 넘은 호출은 UPSTREAM_QUOTA_EXCEEDED로 실패하고, 사용자 요청은 stale 캐시로 대신 응답합니다.
+ * 백그라운드 호출은 backgroundRetry로 다음 토큰까지 기다렸다가 다시 시도합니다.
+ */
+@Slf4j
+public class RateLimiter {
+
+    public enum Priority { FOREGROUND, BACKGROUND }
+
+    public static final String PRIORITY_KEY = RateLimiter.class.getName() + ".priority";
+
+    // 버킷을 Redis 시각 기준으로 채운 뒤, 토큰과 일일 한도가 예약분보다 많이 남아 있으면 하나씩 사용
+    // KEYS: 버킷, 일일 카운터 / ARGV: 초당 토큰, 버킷 크기, 버킷 예약분, 일일 한도, 일일 예약분, 카운터 TTL(초)
+    // 반환: {허용 여부, 오늘 호출 수, 다음 토큰까지 대기(ms), 일일 한도 초과면 -1}
+    private static final RedisScript<List> ACQUIRE_SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local rate = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or burst
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000)
+            local used = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local reserve = tonumber(ARGV[3])
+            local allowed = 0
+            local wait = 0
+            if used + 1 > tonumber(ARGV[4]) - tonumber(ARGV[5]) then
+                wait = -1
+            elseif tokens - 1 < reserve then
+                wait = math.ceil((reserve + 1 - tokens) * 1000 / rate)
+            else
+                tokens = tokens - 1
+                used = redis.call('INCR', KEYS[2])
+                redis.call('EXPIRE', KEYS[2], ARGV[6])
+                allowed = 1
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(burst / rate * 1000) + 1000)
+            return {allowed, used, wait}
+            """, List.class);
+
+    // 일일 카운터는 날짜별 키로 나누고, 지난 날짜 키는 이틀 뒤 만료
+    private static final long USAGE_TTL_SECONDS = 2 * 24 * 60 * 60;
+
+    private final String name;
+    private final double perSecond;
+    private final int burst;
+    private final long dailyQuota;
+    private final double backgroundReserve;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param name upstream 이름 (WebConfig의 커넥션 풀 이름과 같음)
+     * @param perSecond 초당 허용 호출 수
+     * @param burst 버킷 크기 (순간 최대 호출 수)
+     * @param dailyQuota 일일 허용 호출 수
+     * @param backgroundReserve 백그라운드 호출이 남겨 둘 비율 (버킷, 일일 한도 각각)
+     */
+    public RateLimiter(String name, double perSecond, int burst, long dailyQuota, double backgroundReserve,
+                       ReactiveStringRedisTemplate reactiveStringRedisTemplate, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.perSecond = perSecond;
+        this.burst = burst;
+        this.dailyQuota = dailyQuota;
+        this.backgroundReserve = backgroundReserve;
+        this.reactiveStringRedisTemplate = reactiveStringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 구독하는 쪽의 호출을 백그라운드 우선순위로 표시합니다. (contextWrite에 사용)
+     */
+    public static Context background() {
+        return Context.of(PRIORITY_KEY, Priority.BACKGROUND);
+    }
+
+    /**
+     * 백그라운드 호출이 한도에 막히면 다음 토큰까지 기다렸다가 다시 시도합니다. (retryWhen에 사용)
+     * 일일 한도를 넘었거나 기다린 시간의 합이 maxWait를 넘으면 원래 오류를 반환합니다.
+     * @param maxWait 한 호출이 기다릴 수 있는 최대 시간
+     * @return Retry
+     */
+    public static Retry backgroundRetry(Duration maxWait) {
+        return Retry.from(signals -> {
+            AtomicLong waited = new AtomicLong();
+            return signals.concatMap(signal -> {
+                if (signal.failure() instanceof QuotaExceededException quotaExceeded
+                        && quotaExceeded.getRetryAfter() != null
+                        && waited.addAndGet(quotaExceeded.getRetryAfter().toMillis()) <= maxWait.toMillis()) {
+                    return Mono.delay(quotaExceeded.getRetryAfter());
+                }
+                return Mono.error(signal.failure());
+            });
+        });
+    }
+
+    /**
+     * 토큰을 얻은 요청만 보내는 WebClient 필터입니다.
+     * 다음 필터(응답 시간 지표)는 토큰을 얻은 뒤에 실행되어 Redis 왕복 시간이 upstream 응답 시간에 섞이지 않습니다.
+     * @return ExchangeFilterFunction
+     */
+    public ExchangeFilterFunction filter() {
+        return (request, next) -> acquire().then(Mono.defer(() -> next.exchange(request)));
+    }
+
+    /**
+     * 토큰 하나를 사용합니다. 한도를 넘으면 UPSTREAM_QUOTA_EXCEEDED로 실패하고,
+     * Redis에 접근할 수 없으면 호출을 막지 않습니다.
+     * @return 토큰을 얻으면 완료
+     */
+    public Mono<Void> acquire() {
+        return Mono.deferContextual(context -> {
+            Priority priority = context.getOrDefault(PRIORITY_KEY, Priority.FOREGROUND);
+            boolean background = priority == Priority.BACKGROUND;
+            List<String> args = List.of(
+                    String.valueOf(perSecond),
+                    String.valueOf(burst),
+                    String.valueOf(background ? burst * backgroundReserve : 0),
+                    String.valueOf(dailyQuota),
+                    String.valueOf(background ? (long) (dailyQuota * backgroundReserve) : 0),
+                    String.valueOf(USAGE_TTL_SECONDS));
+
+            return reactiveStringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(bucketKey(), usageKey(LocalDate.now())), args)
+                    .next()
+                    .map(result -> ((Number) result.get(2)).longValue())
+                    .onErrorResume(e -> {
+                        log.warn("Rate limiter {} unavailable, allowing call: {}", name, e.getMessage());
+                        return Mono.just(0L);
+                    })
+                    .flatMap(wait -> {
+                        boolean allowed = wait == 0;
+                        count(priority, allowed);
+                        return allowed
+                                ? Mono.<Void>empty()
+                                : Mono.error(new QuotaExceededException(wait > 0 ? Duration.ofMillis(wait) : null));
+                    });
+        });
+    }
+
+    /**
+     * 오늘 사용한 호출 수를 조회합니다.
+     * @return 오늘 호출 수
+     */
+    public Mono<Long> usedToday() {
+        return reactiveStringRedisTemplate.opsForValue().get(usageKey(LocalDate.now()))
+                .map(Long::parseLong)
+                .defaultIfEmpty(0L);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getDailyQuota() {
+        return dailyQuota;
+    }
+
+    private String bucketKey() {
+        return "rateLimit:" + name;
+    }
+
+    private String usageKey(LocalDate date) {
+        return "quota:" + name + ":" + date;
+    }
+
+    /**
+     * 호출 한도 초과 오류입니다. retryAfter는 다음 토큰까지의 대기 시간이며, 일일 한도를 넘었으면 null입니다.
+     * WebClient 필터에서 발생하므로 CircuitBreaker.protect 안에서 전달되며,
+     * CircuitBreaker는 이를 실패로 세지 않고 시험 호출(HALF_OPEN) 중이었다면 서킷을 다시 엽니다.
+     */
+    @Getter
+    public static class QuotaExceededException extends GlobalException {
+        private final Duration retryAfter;
+
+        public QuotaExceededException(Duration retryAfter) {
+            super(ErrorStatus.UPSTREAM_QUOTA_EXCEEDED);
+            this.retryAfter = retryAfter;
+        }
+    }
+
+    private void count(Priority priority, boolean allowed) {
+        Counter.builder("goready.upstream.quota")
+                .description("Upstream calls checked against the shared rate limit")
+                .tag("upstream", name)
+                .tag("priority", priority.name().toLowerCase())
+                .tag("result", allowed ? "allowed" : "denied")
+                .register(meterRegistry)
+                .increment();
+    }
+}
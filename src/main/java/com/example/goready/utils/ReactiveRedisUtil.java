@@ -0,0 +1,167 @@
+package com.example.goready.utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveRedisUtil {
+
+    // 키마다 다른 값과 TTL을 한 번의 EVAL로 저장 (ARGV: 값, TTL(ms) 쌍)
+    private static final RedisScript<Long> SET_ALL_SCRIPT = RedisScript.of("""
+            for i, key in ipairs(KEYS) do
+                redis.call('SET', key, ARGV[2 * i - 1], 'PX', ARGV[2 * i])
+            end
+            return #KEYS
+            """, Long.class);
+
+    // 여러 키를 같은 TTL로 한 번의 EVAL에서 저장 (ARGV[1]: TTL(ms), 이후 KEYS와 같은 순서의 값)
+    private static final RedisScript<Long> SET_ALL_WITH_TTL_SCRIPT = RedisScript.of("""
+            for i, key in ipairs(KEYS) do
+                redis.call('SET', key, ARGV[i + 1], 'PX', ARGV[1])
+            end
+            return #KEYS
+            """, Long.class);
+
+    // 값이 내가 저장한 값일 때만 삭제 (임대 만료 후 다른 노드가 다시 얻은 임대를 지우지 않도록)
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final ReactiveRedisTemplate<String, byte[]> reactiveBytesRedisTemplate;
+
+    /**
+     * 키에 해당하는 값을 한 번의 GET으로 조회합니다.
+     * 스레드를 블로킹하지 않으며, 값이 없으면 Optional.empty()를 반환합니다.
+     * @param key Redis 키
+     * @return 조회된 값
+     */
+    public Mono<Optional<String>> getValue(String key) {
+        return reactiveStringRedisTemplate.opsForValue().get(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    public Mono<Boolean> setValue(String key, String data, Duration duration) {
+        return reactiveStringRedisTemplate.opsForValue().set(key, data, duration);
+    }
+
+    /**
+     * 여러 키를 같은 TTL로 Lua 스크립트 한 번(EVAL)에 저장합니다. MSET과 달리 키마다 TTL이 적용됩니다.
+     * @param values 키와 값
+     * @param duration TTL
+     * @return 저장된 키 개수
+     */
+    public Mono<Long> setValues(Map<String, String> values, Duration duration) {
+        if (values.isEmpty()) {
+            return Mono.just(0L);
+        }
+        List<String> keys = new ArrayList<>(values.size());
+        List<String> args = new ArrayList<>(values.size() + 1);
+        args.add(String.valueOf(Math.max(1, duration.toMillis())));
+        values.forEach((key, value) -> {
+            keys.add(key);
+            args.add(value);
+        });
+        return reactiveStringRedisTemplate.execute(SET_ALL_WITH_TTL_SCRIPT, keys, args)
+                .next();
+    }
+
+    public Mono<Optional<byte[]>> getBytes(String key) {
+        return reactiveBytesRedisTemplate.opsForValue().get(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+
+    /**
+     * 여러 키의 바이너리 값을 한 번의 MGET으로 조회합니다.
+     * @param keys Redis 키 목록
+     * @return keys와 같은 순서의 값 목록
+     */
+    public Mono<List<Optional<byte[]>>> multiGetBytes(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return reactiveBytesRedisTemplate.opsForValue().multiGet(keys)
+                .map(values -> {
+                    List<Optional<byte[]>> result = new ArrayList<>(values.size());
+                    for (byte[] value : values) {
+                        result.add(Optional.ofNullable(value));
+                    }
+                    return result;
+                });
+    }
+
+    public Mono<Boolean> setBytes(String key, byte[] data, Duration duration) {
+        return reactiveBytesRedisTemplate.opsForValue().set(key, data, duration);
+    }
+
+    /**
+     * TTL이 서로 다른 여러 바이너리 값을 Lua 스크립트로 한 번에 저장합니다.
+     * 한 번의 왕복으로 끝나고, 모든 키가 함께 저장되거나 함께 실패합니다.
+     * @param entries 저장할 키, 값, TTL
+     * @return 저장된 키 개수
+     */
+    public Mono<Long> setAllBytes(List<BytesEntry> entries) {
+        if (entries.isEmpty()) {
+            return Mono.just(0L);
+        }
+        List<String> keys = new ArrayList<>(entries.size());
+        List<byte[]> args = new ArrayList<>(entries.size() * 2);
+        for (BytesEntry entry : entries) {
+            keys.add(entry.key());
+            args.add(entry.value());
+            args.add(String.valueOf(Math.max(1, entry.ttl().toMillis())).getBytes(StandardCharsets.US_ASCII));
+        }
+        return reactiveBytesRedisTemplate.execute(SET_ALL_SCRIPT, keys, args)
+                .next();
+    }
+
+    /**
+     * 키가 없을 때만 저장합니다. (SET NX PX)
+     * @param key Redis 키
+     * @param data 값
+     * @param duration TTL
+     * @return 저장했으면 true
+     */
+    public Mono<Boolean> setIfAbsent(String key, String data, Duration duration) {
+        return reactiveStringRedisTemplate.opsForValue().setIfAbsent(key, data, duration);
+    }
+
+    /**
+     * 저장된 값이 expected와 같을 때만 원자적으로 삭제합니다.
+     * @param key Redis 키
+     * @param expected 기대하는 값
+     * @return 삭제했으면 true
+     */
+    public Mono<Boolean> deleteIfEquals(String key, String expected) {
+        return reactiveStringRedisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(key), List.of(expected))
+                .next()
+                .map(count -> count > 0);
+    }
+
+    public Mono<Boolean> deleteValue(String key) {
+        return reactiveStringRedisTemplate.delete(key)
+                .map(count -> count > 0);
+    }
+
+    public record BytesEntry(String key, byte[] value, Duration ttl) {
+    }
+}
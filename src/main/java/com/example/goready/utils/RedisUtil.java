@@ -2,12 +2,19 @@ package com.example.goready.utils;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
@@ -25,19 +32,57 @@ public class RedisUtil {
         values.set(key, data, duration);
     }
 
-    @Transactional(readOnly = true)
     public String getValues(String key) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
-        if (values.get(key) == null) {
+        Object value = values.get(key);
+        if (value == null) {
             return "false";
         }
-        return (String) values.get(key);
+        return (String) value;
+    }
+
+    /**
+     * 여러 키를 한 번의 MGET으로 조회합니다. 값이 없는 키는 "false"입니다.
+     * @param keys Redis 키 목록
+     * @return keys와 같은 순서의 값 목록
+     */
+    public List<String> getValues(List<String> keys) {
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        List<String> result = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            result.add(value == null ? "false" : (String) value);
+        }
+        return result;
+    }
+
+    /**
+     * 여러 키를 같은 TTL로 저장합니다. SET PX 명령을 파이프라이닝해 한 번의 왕복으로 보냅니다.
+     * @param values 키와 값
+     * @param duration TTL
+     */
+    public void setValues(Map<String, String> values, Duration duration) {
+        if (values.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, data) -> connection.stringCommands().set(
+                    key.getBytes(StandardCharsets.UTF_8),
+                    data.getBytes(StandardCharsets.UTF_8),
+                    Expiration.from(duration),
+                    RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
     }
 
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
 
+    public void deleteValues(Collection<String> keys) {
+        redisTemplate.delete(keys);
+    }
+
     public boolean checkExistsValue(String value) {
         return !value.equals("false");
     }
@@ -0,0 +1,83 @@
+package com.example.goready.utils;
+
+import com.example.goready.global.cache.CachePolicy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 여러 노드가 같은 캐시 키를 동시에 갱신하지 않도록 Redis 임대(SET NX PX)를 사용합니다.
+ * 임대를 얻은 노드만 upstream을 호출하고, 나머지 노드는 pollInterval마다 캐시를 확인해 그 결과를 사용합니다.
+ * RequestCoalescer가 노드 안의 중복을, RefreshLock이 노드 사이의 중복을 막습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshLock {
+
+    private final ReactiveRedisUtil reactiveRedisUtil;
+    private final CachePolicy cachePolicy;
+
+    @Value("${refresh-lock.enabled:true}")
+    private boolean enabled;
+
+    // upstream 응답 시간(response-timeout)보다 길게 잡아 갱신 도중 임대가 만료되지 않도록 함
+    @Value("${refresh-lock.lease-ttl:10s}")
+    private Duration leaseTtl;
+
+    @Value("${refresh-lock.poll-interval:200ms}")
+    private Duration pollInterval;
+
+    @Value("${refresh-lock.wait-timeout:5s}")
+    private Duration waitTimeout;
+
+    /**
+     * 임대를 얻으면 fetch를 실행하고, 다른 노드가 갱신 중이면 read로 그 결과를 기다립니다.
+     * waitTimeout 안에 값이 저장되지 않으면(임대를 가진 노드의 실패 등) 직접 fetch를 실행합니다.
+     * Redis에 접근할 수 없으면 임대 없이 fetch를 실행합니다.
+     * @param cacheKey 갱신할 캐시 키
+     * @param fetch upstream 조회 후 캐시에 저장하는 요청
+     * @param read 캐시에서 값을 읽는 요청 (없으면 empty)
+     * @return 조회 결과
+     */
+    public <T> Mono<T> execute(String cacheKey, Supplier<Mono<T>> fetch, Supplier<Mono<T>> read) {
+        if (!enabled) {
+            return Mono.defer(fetch);
+        }
+        String leaseKey = cachePolicy.leaseKey(cacheKey);
+        String token = UUID.randomUUID().toString();
+
+        return reactiveRedisUtil.setIfAbsent(leaseKey, token, leaseTtl)
+                .onErrorResume(e -> {
+                    log.warn("Failed to acquire lease {}: {}", leaseKey, e.getMessage());
+                    return Mono.just(true);
+                })
+                .flatMap(acquired -> acquired
+                        ? Mono.defer(fetch).doFinally(signal -> release(leaseKey, token))
+                        : awaitHolder(cacheKey, fetch, read));
+    }
+
+    private <T> Mono<T> awaitHolder(String cacheKey, Supplier<Mono<T>> fetch, Supplier<Mono<T>> read) {
+        return Flux.interval(pollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> read.get())
+                .next()
+                .timeout(waitTimeout, Mono.defer(() -> {
+                    log.warn("Lease holder for {} did not refresh within {}, fetching directly", cacheKey, waitTimeout);
+                    return fetch.get();
+                }));
+    }
+
+    private void release(String leaseKey, String token) {
+        reactiveRedisUtil.deleteIfEquals(leaseKey, token)
+                .subscribe(released -> {
+                }, e -> log.warn("Failed to release lease {}: {}", leaseKey, e.getMessage()));
+    }
+}
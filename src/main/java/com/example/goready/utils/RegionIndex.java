@@ -0,0 +1,92 @@
+package com.example.goready.utils;
+
+import com.example.goready.dto.Address;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 오프라인 행정구역 격자 인덱스입니다.
+ * 시작 시 파일을 읽어 위경도 격자 셀마다 시도/시군구/동을 매핑해 두고, 카카오 API 없이 주소를 찾습니다.
+ * 파일은 한 줄에 하나의 셀 중심점을 "위도,경도,시도,시군구,동" 형식으로 적으며, #으로 시작하는 줄은 무시합니다.
+ */
+@Slf4j
+@Component
+public class RegionIndex {
+
+    private final Map<Long, Address> cells = new HashMap<>();
+    private final int precision;
+
+    public RegionIndex(ResourceLoader resourceLoader,
+                       @Value("${address.region-index.path:}") String path,
+                       @Value("${address.region-index.precision:100}") int precision) {
+        this.precision = precision;
+        if (!path.isBlank()) {
+            load(resourceLoader.getResource(path));
+        }
+    }
+
+    /**
+     * 위경도가 속한 셀의 주소를 찾습니다.
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 인덱스에 없으면 Optional.empty()
+     */
+    public Optional<Address> find(double latitude, double longitude) {
+        if (cells.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cells.get(quantize(latitude, longitude, precision)));
+    }
+
+    public int size() {
+        return cells.size();
+    }
+
+    /**
+     * 위경도를 1/precision 도 단위 격자로 양자화해 하나의 long 키로 만듭니다.
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param precision 1도당 셀 수 (100이면 0.01도)
+     * @return 셀 키
+     */
+    public static long quantize(double latitude, double longitude, int precision) {
+        long lat = Math.round(latitude * precision);
+        long lon = Math.round(longitude * precision);
+        return (lat << 32) | (lon & 0xFFFFFFFFL);
+    }
+
+    private void load(Resource resource) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                if (columns.length < 5) {
+                    continue;
+                }
+                double latitude = Double.parseDouble(columns[0].trim());
+                double longitude = Double.parseDouble(columns[1].trim());
+                cells.put(quantize(latitude, longitude, precision),
+                        new Address(columns[2].trim(), columns[3].trim(), columns[4].trim()));
+            }
+            log.info("Loaded {} region index cells from {}", cells.size(), resource.getDescription());
+        } catch (IOException | NumberFormatException e) {
+            // 인덱스는 선택 사항이므로 실패해도 카카오 API로 동작
+            log.warn("Failed to load region index from {}: {}", resource.getDescription(), e.getMessage());
+            cells.clear();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.goready.utils;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청이 하나의 upstream Mono를 공유하도록 합니다. (single-flight)
+ * 요청이 끝나면 키가 제거되어, 이후 요청은 다시 upstream을 호출합니다.
+ * @param <K> 요청 키 (격자 좌표, 시도+시군구 등)
+ * @param <V> 응답 타입
+ */
+public class RequestCoalescer<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 요청이 있으면 그 결과를 공유하고, 없으면 supplier로 새 요청을 시작합니다.
+     * @param key 요청 키
+     * @param supplier upstream 요청
+     * @return 공유되는 결과
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> supplier) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> share(k, supplier)));
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<V> share(K key, Supplier<Mono<V>> supplier) {
+        AtomicReference<Mono<V>> self = new AtomicReference<>();
+        Mono<V> shared = Mono.defer(supplier)
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+}
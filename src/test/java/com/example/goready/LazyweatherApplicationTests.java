@@ -3,7 +3,7 @@ package com.example.goready;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "dust.ingestion.enabled=false") // 테스트에서 에어코리아를 호출하지 않음
 class LazyweatherApplicationTests {
 
     @Test
@@ -0,0 +1,35 @@
+package com.example.goready.converter;
+
+import com.example.goready.dto.ForecastData;
+import com.example.goready.dto.ForecastSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForecastSeriesCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 하루치 예보를 디코딩하면 시간별 값과 찾은 시각이 그대로 복원된다.")
+    void roundTripTest() {
+        // given
+        ForecastSeries series = new ForecastSeries();
+        series.maxTemp = 3;
+        series.minTemp = -12;
+        series.found = ForecastData.MAX_TEMP | ForecastData.MIN_TEMP;
+        series.temps[23] = -7;
+        series.rainPers[23] = 100;
+        series.tempHours = 1 << 23;
+        series.rainHours = 1 << 23;
+
+        // when
+        ForecastSeries decoded = ForecastSeriesCodec.decode(ForecastSeriesCodec.encode(series)).orElseThrow();
+
+        // then
+        assertThat(decoded.covers(23)).isTrue();
+        assertThat(decoded.covers(22)).isFalse();
+        assertThat(decoded.at(23).currentTemp).isEqualTo(-7);
+        assertThat(decoded.at(23).rainPer).isEqualTo(100);
+        assertThat(decoded.minTemp).isEqualTo(-12);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.goready.converter;
+
+import com.example.goready.dto.WeatherData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeatherDataCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 값을 디코딩하면 원래 WeatherData와 같다. (영하 기온 포함)")
+    void roundTripTest() {
+        // given
+        WeatherData weatherData = new WeatherData(3, -12, 60, -7, -5, false);
+
+        // when
+        byte[] bytes = WeatherDataCodec.encode(weatherData);
+        Optional<WeatherData> decoded = WeatherDataCodec.decode(bytes);
+
+        // then
+        assertThat(bytes).hasSize(WeatherDataCodec.LENGTH);
+        assertThat(decoded).contains(weatherData);
+        assertThat(WeatherDataCodec.decodeTemp(WeatherDataCodec.encodeTemp(-7)).getAsInt()).isEqualTo(-7);
+    }
+
+    @Test
+    @DisplayName("버전이 다른 값이나 기존 JSON 값은 캐시 미스로 취급한다.")
+    void unknownVersionTest() {
+        // given
+        byte[] bytes = WeatherDataCodec.encode(new WeatherData(21, 5, 60, 18, 16, false));
+        bytes[0] = (byte) (WeatherDataCodec.VERSION + 1);
+        byte[] json = "{\"maxTemp\":21,\"minTemp\":5,\"rainPer\":60,\"currentTemp\":18,\"yesterdayTemp\":16}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(WeatherDataCodec.decode(bytes)).isEmpty();
+        assertThat(WeatherDataCodec.decode(json)).isEmpty();
+        assertThat(WeatherDataCodec.decodeTemp(json)).isEmpty();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.goready.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class StaleWhileRevalidateTest {
+
+    private final CachePolicy cachePolicy = new CachePolicy();
+    private final StaleWhileRevalidate staleWhileRevalidate = new StaleWhileRevalidate(cachePolicy);
+
+    private final AtomicInteger subscriptions = new AtomicInteger();
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private final Mono<String> slowRefresh = Mono.delay(Duration.ofMillis(300))
+            .map(tick -> "fresh")
+            .doOnSubscribe(subscription -> subscriptions.incrementAndGet())
+            .doOnCancel(() -> cancelled.set(true))
+            .doOnSuccess(value -> completed.set(true));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cachePolicy, "staleEnabled", true);
+        ReflectionTestUtils.setField(cachePolicy, "softTimeout", Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("갱신이 softTimeout을 넘으면 stale 값으로 응답하고, 갱신은 취소되지 않고 끝까지 진행된다.")
+    void staleOnTimeoutTest() {
+        // when
+        String result = staleWhileRevalidate.serve("test", slowRefresh, () -> Mono.just("stale"), LocalDateTime.now())
+                .block();
+
+        // then
+        assertThat(result).isEqualTo("stale");
+        await().atMost(Duration.ofSeconds(1)).untilTrue(completed);
+        assertThat(cancelled).isFalse();
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("stale 값이 없으면 진행 중인 갱신 결과를 기다리고, upstream을 다시 호출하지 않는다.")
+    void waitForRefreshWithoutStaleTest() {
+        // when
+        String result = staleWhileRevalidate.serve("test", slowRefresh, Mono::empty, LocalDateTime.now())
+                .block();
+
+        // then
+        assertThat(result).isEqualTo("fresh");
+        assertThat(cancelled).isFalse();
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.goready.service.mask;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DustParserTest {
+    final String RESPONSE = """
+            {"response":{"body":{"totalCount":3,"items":[
+              {"sidoName":"서울","cityName":"강남구","pm10Value":"42","dataTime":"2024-10-15 10:00"},
+              {"sidoName":"서울","cityName":"강동구","pm10Value":"-","dataTime":"2024-10-15 10:00"},
+              {"sidoName":"서울","cityName":"종로구","pm10Value":"87","dataTime":"2024-10-15 10:00"}
+             ],"pageNo":1,"numOfRows":100},
+             "header":{"resultMsg":"NORMAL_CODE","resultCode":"00"}}}
+            """;
+
+    private final DustParser dustParser = new DustParser();
+
+    @Test
+    @DisplayName("시도 응답에서 값이 있는 모든 시/군/구의 PM10 값을 추출한다.")
+    void extractAllPm10ValuesTest() {
+        // when
+        Map<String, Integer> pm10Values = dustParser.extractAllPm10Values(RESPONSE);
+
+        // then
+        assertThat(pm10Values).containsExactly(Map.entry("강남구", 42), Map.entry("종로구", 87));
+    }
+}
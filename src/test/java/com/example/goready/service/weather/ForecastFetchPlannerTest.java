@@ -0,0 +1,56 @@
+package com.example.goready.service.weather;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForecastFetchPlannerTest {
+
+    private final ForecastFetchPlanner forecastFetchPlanner = new ForecastFetchPlanner();
+
+    @Test
+    @DisplayName("0200 발표는 03시부터 23시까지 하루치 행을 조회한다.")
+    void seriesWindowTest() {
+        // when
+        ForecastFetchPlanner.Window window = forecastFetchPlanner.seriesWindow("20241015", "0200",
+                LocalDateTime.of(2024, 10, 15, 23, 0));
+
+        // then: 21시간 x 12행 + TMN, TMX
+        assertThat(window).isEqualTo(new ForecastFetchPlanner.Window(1, 254));
+    }
+
+    @Test
+    @DisplayName("전날 2300 발표를 02시까지만 쓰더라도 그날의 TMX 행까지 조회한다.")
+    void seriesWindowUntilTmxTest() {
+        // when
+        ForecastFetchPlanner.Window window = forecastFetchPlanner.seriesWindow("20241014", "2300",
+                LocalDateTime.of(2024, 10, 15, 2, 0));
+
+        // then: 00시 ~ 14시(15시간 x 12행 + TMN) 다음 15시 블록의 TMX
+        assertThat(window).isEqualTo(new ForecastFetchPlanner.Window(1, 194));
+    }
+
+    @Test
+    @DisplayName("어제 기온은 해당 시각 TMP 한 행만 조회한다.")
+    void temperatureWindowTest() {
+        // when
+        ForecastFetchPlanner.Window window = forecastFetchPlanner.temperatureWindow("20241014", "0500",
+                LocalDateTime.of(2024, 10, 14, 8, 0));
+
+        // then: 06시(13행), 07시(12행) 다음인 25번째 행
+        assertThat(window).isEqualTo(new ForecastFetchPlanner.Window(26, 1));
+    }
+
+    @Test
+    @DisplayName("필요한 행을 모두 포함하는 가장 작은 페이지를 고른다.")
+    void minimalWindowTest() {
+        // when
+        ForecastFetchPlanner.Window window = ForecastFetchPlanner.window(182, 190);
+
+        // then: 10개씩 19번째 페이지 = 180 ~ 189번째 행
+        assertThat(window).isEqualTo(new ForecastFetchPlanner.Window(19, 10));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.goready.service.weather;
+
+import com.example.goready.dto.ForecastData;
+import com.example.goready.dto.ForecastSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ForecastParserTest {
+    final String DATE = "20241015";
+    final String HOUR = "1000";
+    final String RESPONSE = """
+            {"response":{"header":{"resultCode":"00","resultMsg":"NORMAL_SERVICE"},
+             "body":{"dataType":"JSON","items":{"item":[
+              {"baseDate":"20241015","baseTime":"0200","category":"TMP","fcstDate":"20241015","fcstTime":"0900","fcstValue":"11","nx":60,"ny":127},
+              {"baseDate":"20241015","baseTime":"0200","category":"TMP","fcstDate":"20241015","fcstTime":"1000","fcstValue":"-3","nx":60,"ny":127},
+              {"baseDate":"20241015","baseTime":"0200","category":"PCP","fcstDate":"20241015","fcstTime":"1000","fcstValue":"강수없음","nx":60,"ny":127},
+              {"baseDate":"20241015","baseTime":"0200","category":"POP","fcstDate":"20241015","fcstTime":"1000","fcstValue":"60","nx":60,"ny":127},
+              {"baseDate":"20241015","baseTime":"0200","category":"TMN","fcstDate":"20241015","fcstTime":"0600","fcstValue":"-5.0","nx":60,"ny":127},
+              {"baseDate":"20241015","baseTime":"0200","category":"TMX","fcstDate":"20241015","fcstTime":"1500","fcstValue":"25.0","nx":60,"ny":127},
+              {"baseDate":"20241015","baseTime":"0200","category":"TMX","fcstDate":"20241016","fcstTime":"1500","fcstValue":"30.0","nx":60,"ny":127}
+             ]},"pageNo":1,"numOfRows":7,"totalCount":7}}}
+            """;
+
+    private final ForecastParser forecastParser = new ForecastParser();
+
+    @Test
+    @DisplayName("예보 날짜와 시각에 맞는 최고/최저기온, 강수확률, 기온을 추출한다.")
+    void parseTest() throws Exception {
+        // when
+        ForecastData forecast = forecastParser.parse(toStream(RESPONSE), DATE, HOUR);
+
+        // then
+        assertThat(forecast.maxTemp).isEqualTo(25);
+        assertThat(forecast.minTemp).isEqualTo(-5);
+        assertThat(forecast.rainPer).isEqualTo(60);
+        assertThat(forecast.currentTemp).isEqualTo(-3);
+        assertThat(forecast.has(ForecastData.ALL)).isTrue();
+    }
+
+    @Test
+    @DisplayName("예보 날짜의 시간별 기온, 강수확률과 최고/최저기온을 하루치로 추출한다.")
+    void parseSeriesTest() throws Exception {
+        // when
+        ForecastSeries series = forecastParser.parseSeries(toStream(RESPONSE), DATE);
+
+        // then
+        assertThat(series.covers(10)).isTrue();
+        assertThat(series.covers(9)).isFalse(); // 09시 POP 없음
+        assertThat(series.temps[9]).isEqualTo(11);
+        assertThat(series.at(10).currentTemp).isEqualTo(-3);
+        assertThat(series.at(10).rainPer).isEqualTo(60);
+        assertThat(series.maxTemp).isEqualTo(25);
+        assertThat(series.minTemp).isEqualTo(-5);
+    }
+
+    @Test
+    @DisplayName("item이 없는 응답이면 아무 값도 찾지 못한다.")
+    void emptyResponseTest() throws Exception {
+        // given
+        String response = "{\"response\":{\"header\":{\"resultCode\":\"03\",\"resultMsg\":\"NO_DATA\"}}}";
+
+        // when
+        ForecastData forecast = forecastParser.parse(toStream(response), DATE, HOUR);
+
+        // then
+        assertThat(forecast.found).isZero();
+        assertThat(forecast.currentTemp).isZero();
+    }
+
+    private InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.goready.utils;
+
+import com.example.goready.global.exception.GlobalException;
+import com.example.goready.global.response.status.ErrorStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private final Mono<String> serverError = Mono.error(new GlobalException(ErrorStatus.WEATHER_SERVER_ERROR));
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 서킷이 열리고 upstream을 호출하지 않는다.")
+    void openTest() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("kma", 2, Duration.ofMinutes(1), Duration.ofSeconds(3));
+        AtomicInteger calls = new AtomicInteger();
+        Mono<String> upstream = Mono.fromCallable(() -> {
+            calls.incrementAndGet();
+            return "value";
+        });
+
+        // when
+        circuitBreaker.protect(serverError).onErrorResume(e -> Mono.empty()).block();
+        circuitBreaker.protect(serverError).onErrorResume(e -> Mono.empty()).block();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> circuitBreaker.protect(upstream).block())
+                .isInstanceOf(GlobalException.class)
+                .hasMessage(ErrorStatus.UPSTREAM_UNAVAILABLE.getMessage());
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출을 허용하고, 성공하면 서킷을 닫는다.")
+    void halfOpenTest() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("kma", 1, Duration.ZERO, Duration.ofSeconds(3));
+        circuitBreaker.protect(serverError).onErrorResume(e -> Mono.empty()).block();
+
+        // when
+        String result = circuitBreaker.protect(Mono.just("value")).block();
+
+        // then
+        assertThat(result).isEqualTo("value");
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("4xx 오류는 실패로 세지 않는다.")
+    void clientErrorTest() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("kma", 1, Duration.ofMinutes(1), Duration.ofSeconds(3));
+
+        // when
+        circuitBreaker.protect(Mono.error(new GlobalException(ErrorStatus.WEATHER_CLIENT_ERROR)))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 4xx 오류로 끝나면 upstream이 응답한 것이므로 서킷을 닫는다.")
+    void halfOpenClientErrorTest() {
+        // given
+        CircuitBreaker circuitBreaker = new CircuitBreaker("kma", 1, Duration.ZERO, Duration.ofSeconds(3));
+        circuitBreaker.protect(serverError).onErrorResume(e -> Mono.empty()).block();
+
+        // when
+        circuitBreaker.protect(Mono.error(new GlobalException(ErrorStatus.WEATHER_CLIENT_ERROR)))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.protect(Mono.just("value")).block()).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("호출 한도 초과는 실패로 세지 않지만, 시험 호출이었다면 서킷을 다시 연다.")
+    void quotaExceededTest() {
+        // given
+        CircuitBreaker closed = new CircuitBreaker("kma", 1, Duration.ofMinutes(1), Duration.ofSeconds(3));
+        CircuitBreaker halfOpen = new CircuitBreaker("kma", 1, Duration.ZERO, Duration.ofSeconds(3));
+        halfOpen.protect(serverError).onErrorResume(e -> Mono.empty()).block();
+
+        // when
+        closed.protect(Mono.error(new RateLimiter.QuotaExceededException(Duration.ofMillis(100))))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+        halfOpen.protect(Mono.error(new RateLimiter.QuotaExceededException(Duration.ofMillis(100))))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+
+        // then
+        assertThat(closed.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(halfOpen.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
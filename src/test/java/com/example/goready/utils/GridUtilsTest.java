@@ -0,0 +1,57 @@
+package com.example.goready.utils;
+
+import com.example.goready.dto.LonXLatY;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GridUtilsTest {
+    final double SEOUL_LON = 126.9780;
+    final double SEOUL_LAT = 37.5665;
+    final double BUSAN_LON = 129.0756;
+    final double BUSAN_LAT = 35.1796;
+
+    private final GridUtils gridUtils = new GridUtils();
+
+    @Test
+    @DisplayName("위경도를 기상청 격자 좌표로 변환한다.")
+    void convertTest() {
+        // when
+        LonXLatY seoul = gridUtils.convertGRID_GPS(SEOUL_LON, SEOUL_LAT);
+        LonXLatY busan = gridUtils.convertGRID_GPS(BUSAN_LON, BUSAN_LAT);
+
+        // then
+        assertThat(seoul.x).isEqualTo(60);
+        assertThat(seoul.y).isEqualTo(127);
+        assertThat(busan.x).isEqualTo(98);
+        assertThat(busan.y).isEqualTo(76);
+    }
+
+    @Test
+    @DisplayName("배열로 한 번에 변환한 결과는 하나씩 변환한 결과와 같다.")
+    void batchConvertTest() {
+        // when
+        int[] packed = gridUtils.toGrid(new double[]{SEOUL_LON, BUSAN_LON}, new double[]{SEOUL_LAT, BUSAN_LAT});
+
+        // then
+        assertThat(packed[0]).isEqualTo(gridUtils.toGrid(SEOUL_LON, SEOUL_LAT));
+        assertThat(GridUtils.gridX(packed[1])).isEqualTo(98);
+        assertThat(GridUtils.gridY(packed[1])).isEqualTo(76);
+    }
+
+    @Test
+    @DisplayName("격자 좌표를 위경도로 역변환하면 같은 격자로 돌아온다.")
+    void inverseTest() {
+        // when
+        double[] lonLat = gridUtils.toGps(60, 127);
+        LonXLatY xy = gridUtils.convertGRID_GPS(lonLat[0], lonLat[1]);
+
+        // then
+        assertThat(lonLat[0]).isCloseTo(SEOUL_LON, within(0.05));
+        assertThat(lonLat[1]).isCloseTo(SEOUL_LAT, within(0.05));
+        assertThat(xy.x).isEqualTo(60);
+        assertThat(xy.y).isEqualTo(127);
+    }
+}
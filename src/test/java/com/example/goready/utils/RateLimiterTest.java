@@ -0,0 +1,93 @@
+package com.example.goready.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@SpringBootTest(properties = "dust.ingestion.enabled=false") // 테스트에서 에어코리아를 호출하지 않음
+class RateLimiterTest {
+    final String NAME = "test-" + UUID.randomUUID();
+    @Autowired
+    private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        reactiveStringRedisTemplate.delete("rateLimit:" + NAME, "quota:" + NAME + ":" + LocalDate.now()).block();
+    }
+
+    @Test
+    @DisplayName("버킷을 모두 쓰면 거절되고, 다음 토큰까지 기다리면 다시 허용된다.")
+    void refillTest() throws Exception {
+        // given
+        RateLimiter rateLimiter = rateLimiter(10, 2, 100, 0);
+        rateLimiter.acquire().block();
+        rateLimiter.acquire().block();
+
+        // when
+        RateLimiter.QuotaExceededException denied = catchQuotaExceeded(rateLimiter, false);
+        Thread.sleep(denied.getRetryAfter().toMillis() + 20);
+
+        // then
+        assertThat(denied.getRetryAfter()).isBetween(Duration.ofMillis(1), Duration.ofMillis(100));
+        rateLimiter.acquire().block();
+        assertThat(rateLimiter.usedToday().block()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("백그라운드 호출은 버킷 예약분을 남기고 멈추지만, 사용자 요청은 예약분을 사용한다.")
+    void backgroundReserveTest() throws Exception {
+        // given
+        RateLimiter rateLimiter = rateLimiter(0.1, 5, 100, 0.4);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.acquire().contextWrite(RateLimiter.background()).block();
+        }
+
+        // when
+        RateLimiter.QuotaExceededException denied = catchQuotaExceeded(rateLimiter, true);
+        rateLimiter.acquire().block();
+
+        // then
+        assertThat(denied.getRetryAfter()).isNotNull();
+        assertThat(rateLimiter.usedToday().block()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("일일 한도를 넘으면 기다려도 허용되지 않으므로 대기 시간 없이 거절된다.")
+    void dailyQuotaTest() throws Exception {
+        // given
+        RateLimiter rateLimiter = rateLimiter(10, 10, 2, 0);
+        rateLimiter.acquire().block();
+        rateLimiter.acquire().block();
+
+        // when
+        RateLimiter.QuotaExceededException denied = catchQuotaExceeded(rateLimiter, false);
+
+        // then
+        assertThat(denied.getRetryAfter()).isNull();
+        assertThat(rateLimiter.usedToday().block()).isEqualTo(2L);
+    }
+
+    private RateLimiter rateLimiter(double perSecond, int burst, long dailyQuota, double backgroundReserve) {
+        return new RateLimiter(NAME, perSecond, burst, dailyQuota, backgroundReserve,
+                reactiveStringRedisTemplate, new SimpleMeterRegistry());
+    }
+
+    private RateLimiter.QuotaExceededException catchQuotaExceeded(RateLimiter rateLimiter, boolean background) {
+        RateLimiter.QuotaExceededException denied = catchThrowableOfType(() -> (background
+                ? rateLimiter.acquire().contextWrite(RateLimiter.background())
+                : rateLimiter.acquire()).block(), RateLimiter.QuotaExceededException.class);
+        assertThat(denied).isNotNull();
+        return denied;
+    }
+}
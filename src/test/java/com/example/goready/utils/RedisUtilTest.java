@@ -8,11 +8,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.awaitility.Awaitility.await;
 
-@SpringBootTest
+@SpringBootTest(properties = "dust.ingestion.enabled=false") // 테스트에서 에어코리아를 호출하지 않음
 class RedisUtilTest {
     final String KEY = "key";
     final String VALUE = "value";
@@ -66,6 +68,20 @@ class RedisUtilTest {
         assertThat(findValue).isEqualTo("false");
     }
 
+    @Test
+    @DisplayName("여러 키를 한 번에 저장하고 요청한 순서대로 조회한다.")
+    void multiSaveAndFindTest() throws Exception {
+        // given
+        redisService.setValues(Map.of("key1", "value1", "key2", "value2"), DURATION);
+
+        // when
+        List<String> findValues = redisService.getValues(List.of("key2", "missing", "key1"));
+
+        // then
+        assertThat(findValues).isEqualTo(List.of("value2", "false", "value1"));
+        redisService.deleteValues(List.of("key1", "key2"));
+    }
+
     @Test
     @DisplayName("Redis에 저장된 데이터는 만료시간이 지나면 삭제된다.")
     void expiredTest() throws Exception {
@@ -0,0 +1,108 @@
+package com.example.goready.utils;
+
+import com.example.goready.global.cache.CachePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshLockTest {
+    final String KEY = "weatherInfo:X60Y127:2024-10-15_10";
+    final String LEASE_KEY = "lease:" + KEY;
+
+    private final ReactiveRedisUtil reactiveRedisUtil = mock(ReactiveRedisUtil.class);
+    private final RefreshLock refreshLock = new RefreshLock(reactiveRedisUtil, new CachePolicy());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshLock, "enabled", true);
+        ReflectionTestUtils.setField(refreshLock, "leaseTtl", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(refreshLock, "pollInterval", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(refreshLock, "waitTimeout", Duration.ofMillis(200));
+        when(reactiveRedisUtil.deleteIfEquals(anyString(), anyString())).thenReturn(Mono.just(true));
+    }
+
+    @Test
+    @DisplayName("임대를 얻으면 upstream을 호출하고, 자신의 토큰으로만 임대를 해제한다.")
+    void winnerTest() {
+        // given
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        when(reactiveRedisUtil.setIfAbsent(eq(LEASE_KEY), token.capture(), any())).thenReturn(Mono.just(true));
+        AtomicInteger fetches = new AtomicInteger();
+
+        // when
+        String result = refreshLock.execute(KEY,
+                () -> Mono.fromCallable(() -> "fetched-" + fetches.incrementAndGet()),
+                () -> Mono.just("cached")).block();
+
+        // then
+        assertThat(result).isEqualTo("fetched-1");
+        verify(reactiveRedisUtil, timeout(1000)).deleteIfEquals(LEASE_KEY, token.getValue());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대를 가지고 있으면 그 노드가 저장한 값을 반환한다.")
+    void loserReadsHolderValueTest() {
+        // given
+        when(reactiveRedisUtil.setIfAbsent(eq(LEASE_KEY), anyString(), any())).thenReturn(Mono.just(false));
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger fetches = new AtomicInteger();
+
+        // when
+        String result = refreshLock.execute(KEY,
+                () -> Mono.fromCallable(() -> "fetched-" + fetches.incrementAndGet()),
+                // 두 번째 확인에서 임대를 가진 노드의 값이 저장됨
+                () -> reads.incrementAndGet() < 2 ? Mono.empty() : Mono.just("cached")).block();
+
+        // then
+        assertThat(result).isEqualTo("cached");
+        assertThat(fetches.get()).isZero();
+        verify(reactiveRedisUtil, never()).deleteIfEquals(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("임대를 가진 노드가 waitTimeout 안에 값을 저장하지 않으면 직접 upstream을 호출한다.")
+    void loserFallsBackAfterTimeoutTest() {
+        // given
+        when(reactiveRedisUtil.setIfAbsent(eq(LEASE_KEY), anyString(), any())).thenReturn(Mono.just(false));
+
+        // when
+        String result = refreshLock.execute(KEY,
+                () -> Mono.just("fetched"),
+                Mono::<String>empty).block(Duration.ofSeconds(1));
+
+        // then
+        assertThat(result).isEqualTo("fetched");
+    }
+
+    @Test
+    @DisplayName("Redis 오류로 임대를 확인할 수 없어도 upstream을 호출한다.")
+    void redisErrorTest() {
+        // given
+        when(reactiveRedisUtil.setIfAbsent(eq(LEASE_KEY), anyString(), any()))
+                .thenReturn(Mono.error(new IllegalStateException("redis down")));
+
+        // when
+        String result = refreshLock.execute(KEY,
+                () -> Mono.just("fetched"),
+                () -> Mono.just("cached")).block();
+
+        // then
+        assertThat(result).isEqualTo("fetched");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.goready.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTest {
+    final String KEY = "weatherInfo:X60Y127:2024-10-15_10";
+
+    private final RequestCoalescer<String, String> coalescer = new RequestCoalescer<>();
+
+    @Test
+    @DisplayName("같은 키로 동시에 요청하면 upstream은 한 번만 호출되고 결과를 공유한다.")
+    void coalesceTest() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        // when
+        CompletableFuture<String> first = coalescer.execute(KEY, () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).toFuture();
+        CompletableFuture<String> second = coalescer.execute(KEY, () -> {
+            calls.incrementAndGet();
+            return upstream.asMono();
+        }).toFuture();
+        upstream.tryEmitValue("value");
+
+        // then
+        assertThat(first.get()).isEqualTo("value");
+        assertThat(second.get()).isEqualTo("value");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("요청이 끝난 뒤에는 같은 키라도 upstream을 다시 호출한다.")
+    void reloadAfterCompleteTest() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        coalescer.execute(KEY, () -> Mono.fromCallable(calls::incrementAndGet).map(String::valueOf)).block();
+        String result = coalescer.execute(KEY, () -> Mono.fromCallable(calls::incrementAndGet).map(String::valueOf)).block();
+
+        // then
+        assertThat(result).isEqualTo("2");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+}